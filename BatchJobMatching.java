@@ -0,0 +1,211 @@
+package CS5800_Project;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+import com.opencsv.CSVWriter;
+import com.opencsv.exceptions.CsvException;
+
+/**
+ * Runs the job matching over many input files at once:
+ *
+ *   java CS5800_Project.BatchJobMatching --inputs <directory or manifest> --output <directory>
+ *        [--algorithm ff|ek|dinic|pr|scaling] [--parallelism N] [--warm-start] [--binary]
+ *
+ * --inputs is either a directory (every *.csv in it) or a manifest file with
+ * one input path per line, relative to the manifest; blank lines and lines
+ * starting with # are skipped. Each file gets its own virtual thread and its
+ * own solver instance, so no solver state is shared between files. The
+ * CPU-bound build-and-solve stage is limited to --parallelism files at a time
+ * (default: number of cores). At most twice that many files are in flight
+ * from read to write. A file's dataset and network are only held while it
+ * is in flight, so memory does not grow with the number of inputs.
+ *
+ * Results go to <output>/<input name>_<ALGORITHM>_output.csv (.bin with
+ * --binary, see MatchWriter), and a
+ * summary with the matching size and per-stage timings of every file to
+ * <output>/batch_summary.csv.
+ */
+public class BatchJobMatching {
+    static final String USAGE = "Usage: BatchJobMatching --inputs <directory or manifest> --output <directory> [--algorithm ff|ek|dinic|pr|scaling] [--parallelism N] [--warm-start] [--binary]";
+
+    private final String algorithm;
+    private final boolean warmStart;
+    private final MatchWriter.Format format;
+    private final Semaphore solveSlots;
+    private final Semaphore fileSlots; // files between read and write, bounds the datasets and networks held
+
+    // Outcome of one input file, error is null on success
+    static class FileResult {
+        final Path input;
+        int rows;
+        int matching;
+        long readNanos, solveNanos, writeNanos;
+        String error;
+
+        FileResult(Path input) {
+            this.input = input;
+        }
+    }
+
+    BatchJobMatching(String algorithm, boolean warmStart, MatchWriter.Format format, int parallelism) {
+        this.algorithm = algorithm;
+        this.warmStart = warmStart;
+        this.format = format;
+        this.solveSlots = new Semaphore(Math.max(1, parallelism));
+        this.fileSlots = new Semaphore(2 * Math.max(1, parallelism)); // one more file reading or writing per solve slot
+    }
+
+    List<FileResult> run(List<Path> inputs, Path outputDirectory) throws InterruptedException {
+        List<Future<FileResult>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Path input : inputs) {
+                futures.add(executor.submit(() -> match(input, outputDirectory)));
+            }
+        } // close() waits for every file
+
+        List<FileResult> results = new ArrayList<>();
+        for (Future<FileResult> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Batch task failed", e.getCause()); // match catches its own errors
+            }
+        }
+        return results;
+    }
+
+    private FileResult match(Path input, Path outputDirectory) throws InterruptedException {
+        FileResult result = new FileResult(input);
+        fileSlots.acquire();
+        try {
+            long readStart = System.nanoTime();
+            JobDataset data = JobDataset.read(input.toString());
+            result.rows = data.size();
+            long readEnd = System.nanoTime();
+            result.readNanos = readEnd - readStart;
+
+            Eligibility eligibility;
+            FlowNetwork network;
+            solveSlots.acquire();
+            long solveStart = System.nanoTime();
+            try {
+                eligibility = EligibilityIndex.build(data);
+                network = FlowNetwork.forJobMatching(eligibility, data.limits(), data.openings());
+                MaxFlowSolver solver = JobMatchingCli.solver(algorithm, network.vertices, 1);
+                int seeded = warmStart && !data.hasCapacities() ? KarpSipser.seed(network, eligibility) : 0; // the seed assumes unit capacities
+                result.matching = seeded + solver.maxFlow(network, 0, network.vertices - 1);
+            } finally {
+                solveSlots.release();
+            }
+            long solveEnd = System.nanoTime();
+            result.solveNanos = solveEnd - solveStart;
+
+            Path output = MatchWriter.outputFile(outputDirectory.toString(), baseName(input) + "_" + JobMatchingCli.outputName(algorithm), format);
+            JobMatchingCli.writeMatching(network, eligibility, data, format, 0, output);
+            result.writeNanos = System.nanoTime() - solveEnd;
+        } catch (IOException | CsvException | RuntimeException e) {
+            result.error = e.toString();
+        } finally {
+            fileSlots.release();
+        }
+        return result;
+    }
+
+    static void writeSummary(List<FileResult> results, Path file) throws IOException {
+        try (CSVWriter writer = new CSVWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            writer.writeNext(new String[]{"file", "rows", "matching", "read_ms", "solve_ms", "write_ms", "status"});
+            for (FileResult r : results) {
+                writer.writeNext(new String[]{
+                        r.input.toString(),
+                        Integer.toString(r.rows),
+                        Integer.toString(r.matching),
+                        Double.toString(r.readNanos / 1e6),
+                        Double.toString(r.solveNanos / 1e6),
+                        Double.toString(r.writeNanos / 1e6),
+                        r.error == null ? "ok" : r.error});
+            }
+        }
+    }
+
+    // Every *.csv in a directory, or the paths listed in a manifest file
+    static List<Path> listInputs(Path inputs) throws IOException {
+        List<Path> files = new ArrayList<>();
+        if (Files.isDirectory(inputs)) {
+            try (Stream<Path> entries = Files.list(inputs)) {
+                entries.filter(p -> p.getFileName().toString().toLowerCase().endsWith(".csv"))
+                        .sorted()
+                        .forEach(files::add);
+            }
+        } else {
+            Path base = inputs.toAbsolutePath().getParent();
+            for (String line : Files.readAllLines(inputs, StandardCharsets.UTF_8)) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    files.add(base.resolve(line));
+                }
+            }
+        }
+        return files;
+    }
+
+    private static String baseName(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String inputs = option(args, "--inputs", null);
+        String output = option(args, "--output", null);
+        String algorithm = option(args, "--algorithm", "dinic");
+        if (inputs == null || output == null || !JobMatchingCli.ALGORITHMS.contains(algorithm.toLowerCase())) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        int parallelism = (int) JobMatchingCli.numberOption(args, "--parallelism", Runtime.getRuntime().availableProcessors(), 1, Integer.MAX_VALUE / 2, USAGE);
+
+        List<Path> files = listInputs(Paths.get(inputs));
+        Path outputDirectory = Files.createDirectories(Paths.get(output));
+        MatchWriter.Format format = List.of(args).contains("--binary") ? MatchWriter.Format.BINARY : MatchWriter.Format.CSV;
+        BatchJobMatching batch = new BatchJobMatching(algorithm, List.of(args).contains("--warm-start"), format, parallelism);
+
+        long startTime = System.nanoTime();
+        List<FileResult> results = batch.run(files, outputDirectory);
+        long endTime = System.nanoTime();
+
+        Path summary = outputDirectory.resolve("batch_summary.csv");
+        writeSummary(results, summary);
+        long failed = results.stream().filter(r -> r.error != null).count();
+        System.out.println("Matched " + (results.size() - failed) + " of " + results.size() + " files in " + (endTime - startTime) / 1e6 + " ms");
+        System.out.println("Summary written to " + summary);
+        for (FileResult r : results) {
+            if (r.error != null) {
+                System.err.println(r.input + ": " + r.error);
+            }
+        }
+        if (failed > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static String option(String[] args, String name, String fallback) {
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
+        }
+        return fallback;
+    }
+}
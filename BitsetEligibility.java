@@ -0,0 +1,41 @@
+package CS5800_Project;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Applicant -> job eligibility as one bit per job, 64 jobs per long.
+ *
+ * Applicants whose Eligibility rows are the same array (same degree) share
+ * one bitset row as well.
+ */
+class BitsetEligibility {
+    final int applicants;
+    final int jobs;
+    final int words; // longs per row
+    final long[][] rows;
+
+    BitsetEligibility(Eligibility eligibility) {
+        applicants = eligibility.applicants;
+        jobs = eligibility.jobs;
+        words = (jobs + 63) >>> 6;
+        rows = new long[applicants][];
+
+        Map<int[], long[]> shared = new IdentityHashMap<>();
+        for (int u = 0; u < applicants; u++) {
+            rows[u] = shared.computeIfAbsent(eligibility.jobsOf[u], this::toBits);
+        }
+    }
+
+    private long[] toBits(int[] jobList) {
+        long[] bits = new long[words];
+        for (int v : jobList) {
+            bits[v >>> 6] |= 1L << v;
+        }
+        return bits;
+    }
+
+    boolean isEligible(int applicant, int job) {
+        return (rows[applicant][job >>> 6] & (1L << job)) != 0;
+    }
+}
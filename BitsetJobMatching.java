@@ -0,0 +1,158 @@
+package CS5800_Project;
+import java.util.*;
+import java.io.IOException;
+
+import com.opencsv.exceptions.CsvException;
+
+import java.util.List;
+
+/**
+ * Augmenting-path matching over BitsetEligibility.
+ *
+ * Each search is a BFS over alternating paths from a free applicant. Instead of
+ * testing jobs one by one, an applicant's row is ANDed with a bitmap of jobs not
+ * yet visited in this search, so 64 jobs are examined per word, and the whole
+ * word is cleared from the bitmap with one ANDNOT. Dense rows (a degree that
+ * qualifies for a large share of the jobs) benefit the most.
+ */
+class BitsetJobMatching {
+    private static final int NIL = -1;
+
+    private BitsetEligibility bits;
+    private int[] matchApplicant; // job matched to each applicant, NIL if free
+    private int[] matchJob;       // applicant matched to each job, NIL if free
+    private long[] unvisited;     // jobs not reached by the current search
+    private int[] queue;
+    private int[] reachedFrom;    // applicant whose row reached each job
+    private MatchWriter.Settings output = MatchWriter.Settings.DEFAULT; // format and echo of the result file
+
+    private boolean augment(int root) {
+        int head = 0, tail = 0;
+        queue[tail++] = root;
+
+        while (head < tail) {
+            long[] row = bits.rows[queue[head]];
+            int a = queue[head++];
+            for (int w = 0; w < bits.words; w++) {
+                long candidates = row[w] & unvisited[w];
+                if (candidates == 0) {
+                    continue;
+                }
+                unvisited[w] &= ~candidates;
+
+                while (candidates != 0) {
+                    int job = (w << 6) + Long.numberOfTrailingZeros(candidates);
+                    candidates &= candidates - 1;
+                    reachedFrom[job] = a;
+
+                    int b = matchJob[job];
+                    if (b == NIL) {
+                        flip(job);
+                        return true;
+                    }
+                    queue[tail++] = b;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Walks back from the free job, moving every applicant on the path to the job that reached it
+    private void flip(int job) {
+        while (job != NIL) {
+            int a = reachedFrom[job];
+            int previous = matchApplicant[a];
+            matchApplicant[a] = job;
+            matchJob[job] = a;
+            job = previous;
+        }
+    }
+
+    private void resetUnvisited() {
+        Arrays.fill(unvisited, -1L);
+        int tailBits = bits.jobs & 63;
+        if (tailBits != 0) {
+            unvisited[bits.words - 1] = (1L << tailBits) - 1;
+        }
+    }
+
+    public int maxJobMatching(int[][] jobGraph, List<String> nameColumn, List<String> jobIdColumn, List<String> degree, List<String> qualification, String path) {
+        return maxJobMatching(Eligibility.fromMatrix(jobGraph), nameColumn, jobIdColumn, degree, qualification, path);
+    }
+
+    public int maxJobMatching(Eligibility eligibility, List<String> nameColumn, List<String> jobIdColumn, List<String> degree, List<String> qualification, String path) {
+        bits = new BitsetEligibility(eligibility);
+        int applicants = bits.applicants;
+        int jobs = bits.jobs;
+
+        matchApplicant = new int[applicants];
+        matchJob = new int[jobs];
+        Arrays.fill(matchApplicant, NIL);
+        Arrays.fill(matchJob, NIL);
+        unvisited = new long[bits.words];
+        queue = new int[applicants];
+        reachedFrom = new int[jobs];
+
+        // Jobs visited by a failed search cannot lead to a free job until the matching changes,
+        // so the bitmap is only reset after a successful augmentation
+        int matching = 0;
+        resetUnvisited();
+        for (int a = 0; a < applicants; a++) {
+            if (augment(a)) {
+                matching++;
+                resetUnvisited();
+            }
+        }
+
+        // Hand the matched jobs to the background writer
+        try (MatchWriter writer = MatchWriter.open(path, "Bitset_output", output, nameColumn, degree, jobIdColumn, qualification)) {
+            for (int u = 0; u < applicants; u++) {
+                if (matchApplicant[u] != NIL) {
+                    writer.add(u, matchApplicant[u]);
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return matching;
+    }
+
+    public void setOutput(MatchWriter.Settings output) {
+        this.output = output;
+    }
+
+    public static void main(String[] args) {
+        String[] paths = FileSelectionDialog.openFileAndDirectory();
+        MatchWriter.Settings output = MatchWriter.Settings.parse(args);
+        System.out.println(paths[1]);
+        String outputpath = paths[1];
+        JobDataset data;
+        try {
+            data = JobDataset.read(paths[0]);
+        } catch (IOException | CsvException e) {
+            e.printStackTrace();
+            return;
+        }
+
+        List<String> nameColumn = data.names();
+        List<String> degree = data.degrees();
+        List<String> jobIdColumn = data.jobIds();
+        List<String> qualification = data.qualifications();
+
+        System.out.println(nameColumn.size());
+        System.out.println(qualification.size());
+
+        Eligibility eligibility = EligibilityIndex.build(data);
+
+        BitsetJobMatching bitset = new BitsetJobMatching();
+        bitset.setOutput(output);
+
+        long startTime = System.nanoTime();
+        int maxMatching = bitset.maxJobMatching(eligibility, nameColumn, jobIdColumn, degree, qualification, outputpath);
+        long endTime = System.nanoTime();
+
+        System.out.println("Maximum Job Matching is " + maxMatching);
+        System.out.println("Bitset Matching Runtime: " + (endTime - startTime) + " nanoseconds");
+    }
+}
@@ -0,0 +1,164 @@
+package CS5800_Project;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.opencsv.CSVWriter;
+
+/**
+ * Which degrees and qualifications limit a solved job matching, read from the
+ * MinCut of its final residual network (layout of FlowNetwork.forJobMatching).
+ *
+ * A job -> sink cut edge is a job whose openings are all filled while an
+ * augmenting path still reaches it: one more opening of that job raises the
+ * matching, so its qualification is a bottleneck. A source -> applicant cut
+ * edge only says the applicant is on the sink side: its source edge is
+ * saturated and the residual graph has no room left from it through its
+ * eligible jobs. That is where the cut happens to run, not a place where one
+ * more unit raises the matching, so the degree rows describe the cut rather
+ * than point at bottlenecks. Both are counted per Degree / Qualifications
+ * value, together with the rows, capacity and flow of every value, in one
+ * pass over the applicant and job vertices.
+ */
+class BottleneckReport {
+    static final class Group {
+        final String value;
+        int rows;
+        long capacity;    // job limits, or openings
+        long assigned;    // flow through the rows
+        int cutRows;      // rows whose source/sink edge is in the cut, only actionable for qualifications
+        long cutCapacity; // capacity of those edges
+
+        Group(String value) {
+            this.value = value;
+        }
+    }
+
+    final MinCut cut;
+    final int applicants;
+    final int jobs;
+    final List<Group> degrees = new ArrayList<>();
+    final List<Group> qualifications = new ArrayList<>();
+    long applicantCut; // capacity of the source -> applicant cut edges
+    long jobCut;       // capacity of the job -> sink cut edges
+    long pairCut;      // capacity of the applicant -> job cut edges, only with Limit/Openings
+
+    private BottleneckReport(MinCut cut, int applicants, int jobs) {
+        this.cut = cut;
+        this.applicants = applicants;
+        this.jobs = jobs;
+    }
+
+    // network must hold the maximum flow left by the solver, no extra solve is run
+    static BottleneckReport of(FlowNetwork network, Eligibility eligibility, JobDataset data) {
+        int applicants = eligibility.applicants;
+        int jobs = eligibility.jobs;
+        int source = 0;
+        int sink = applicants + jobs + 1;
+        BottleneckReport report = new BottleneckReport(MinCut.of(network, source), applicants, jobs);
+        boolean[] sourceSide = report.cut.sourceSide;
+
+        for (String degree : data.degreeDictionary()) {
+            report.degrees.add(new Group(degree));
+        }
+        for (String qualification : data.qualificationDictionary()) {
+            report.qualifications.add(new Group(qualification));
+        }
+        int[] degreeCodes = data.degreeCodes();
+        int[] qualificationCodes = data.qualificationCodes();
+
+        // Source -> applicant edges: the cut ones lead to an applicant outside the source side
+        for (int e = network.head[source]; e != -1; e = network.next[e]) {
+            int u = network.to[e];
+            int capacity = network.cap[e] + network.cap[e ^ 1];
+            Group group = report.degrees.get(degreeCodes[u - 1]);
+            group.rows++;
+            group.capacity += capacity;
+            group.assigned += network.flow(e);
+            if (!sourceSide[u]) {
+                group.cutRows++;
+                group.cutCapacity += capacity;
+                report.applicantCut += capacity;
+            }
+        }
+
+        // Job -> sink edges, found through their reverse edges; the cut ones leave a job on the source side
+        for (int r = network.head[sink]; r != -1; r = network.next[r]) {
+            int e = r ^ 1;
+            int v = network.to[r];
+            int capacity = network.cap[e] + network.cap[r];
+            Group group = report.qualifications.get(qualificationCodes[v - applicants - 1]);
+            group.rows++;
+            group.capacity += capacity;
+            group.assigned += network.flow(e);
+            if (sourceSide[v]) {
+                group.cutRows++;
+                group.cutCapacity += capacity;
+                report.jobCut += capacity;
+            }
+        }
+
+        report.pairCut = report.cut.capacity - report.applicantCut - report.jobCut;
+        return report;
+    }
+
+    // Qualifications with job -> sink cut edges, most cut openings first
+    List<Group> bottleneckQualifications() {
+        List<Group> bottlenecks = new ArrayList<>();
+        for (Group group : qualifications) {
+            if (group.cutCapacity > 0) {
+                bottlenecks.add(group);
+            }
+        }
+        bottlenecks.sort(Comparator.comparingLong((Group g) -> g.cutCapacity).reversed());
+        return bottlenecks;
+    }
+
+    String summary(int top) {
+        StringBuilder text = new StringBuilder();
+        text.append("Min cut ").append(cut.capacity).append(": ")
+                .append(applicantCut).append(" applicant edges, ")
+                .append(jobCut).append(" job edges, ")
+                .append(pairCut).append(" applicant -> job edges, ")
+                .append(cut.sourceSideSize()).append(" of ").append(applicants + jobs + 2).append(" vertices on the source side");
+        List<Group> bottlenecks = bottleneckQualifications();
+        if (!bottlenecks.isEmpty()) {
+            text.append(System.lineSeparator()).append("Bottleneck qualifications:");
+            for (int i = 0; i < Math.min(top, bottlenecks.size()); i++) {
+                Group group = bottlenecks.get(i);
+                text.append(System.lineSeparator()).append("  ").append(group.value)
+                        .append(": ").append(group.cutCapacity).append(" of ").append(group.capacity).append(" openings on the cut");
+            }
+        }
+        return text.toString();
+    }
+
+    void write(Path file) throws IOException {
+        try (CSVWriter writer = new CSVWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            writer.writeNext(new String[]{"side", "value", "rows", "capacity", "assigned", "cut_rows", "cut_capacity"});
+            writeGroups(writer, "degree", degrees);
+            writeGroups(writer, "qualification", qualifications);
+        }
+    }
+
+    private static void writeGroups(CSVWriter writer, String side, List<Group> groups) {
+        for (Group g : groups) {
+            if (g.rows == 0) {
+                continue;
+            }
+            writer.writeNext(new String[]{
+                    side,
+                    g.value,
+                    Integer.toString(g.rows),
+                    Long.toString(g.capacity),
+                    Long.toString(g.assigned),
+                    Integer.toString(g.cutRows),
+                    Long.toString(g.cutCapacity)});
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package CS5800_Project;
+import java.util.*;
+import java.io.IOException;
+
+import com.opencsv.exceptions.CsvException;
+
+import java.util.List;
+
+/**
+ * Job matching with multi-opening jobs and multi-job applicants, solved by
+ * capacity scaling.
+ *
+ * Job -> sink edges carry the job's openings and source -> applicant edges
+ * the applicant's limit (see JobDataset), so a job with 500 openings is one
+ * vertex instead of 500 duplicated rows. The solver starts with delta = the
+ * largest power of two not above the largest capacity, pushes flow only
+ * along residual edges of at least delta, and halves delta when no such
+ * path is left. Within a delta phase the paths are found as Dinic blocking
+ * flows (BFS levels, current-arc DFS) instead of one BFS per path. Each
+ * phase pushes at most 2E paths, so the run is O(VE log U), within the
+ * O(E^2 log U) of plain scaling, and independent of the total openings.
+ */
+class CapacityScalingJobMatching implements MaxFlowSolver {
+    private static final int INF = Integer.MAX_VALUE;
+    private FlowNetwork network;
+    private int flowLimit = INF; // stop once the flow reaches this, see MatchingBound
+    private final SolverStats stats = new SolverStats();
+    private MatchWriter.Settings output = MatchWriter.Settings.DEFAULT; // format and echo of the result file
+
+    // Work arrays, sized per network
+    private int[] level;
+    private int[] it;       // current arc of each vertex
+    private int[] queue;    // BFS queue
+    private int[] stack;    // vertices on the DFS path
+    private int[] pathEdge; // edges on the DFS path
+
+    // BFS levels over edges with residual capacity >= delta
+    private boolean bfs(int source, int sink, int delta) {
+        if (SolverStats.ENABLED) {
+            stats.bfsCalls++;
+        }
+        Arrays.fill(level, -1);
+        level[source] = 0;
+        int head = 0, tail = 0;
+        queue[tail++] = source;
+
+        while (head < tail) {
+            int u = queue[head++];
+            if (SolverStats.ENABLED) {
+                stats.verticesDequeued++;
+            }
+            for (int e = network.head[u]; e != -1; e = network.next[e]) {
+                if (SolverStats.ENABLED) {
+                    stats.edgesScanned++;
+                }
+                int v = network.to[e];
+                if (level[v] < 0 && network.cap[e] >= delta) {
+                    level[v] = level[u] + 1;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return level[sink] >= 0;
+    }
+
+    // Blocking flow of the delta level graph, stops early once limit is pushed
+    private int blockingFlow(int source, int sink, int delta, int limit) {
+        int totalFlow = 0;
+        int depth = 0;
+        stack[0] = source;
+
+        while (true) {
+            int u = stack[depth];
+
+            if (u == sink) {
+                int flow = INF;
+                for (int k = 0; k < depth; k++) {
+                    flow = Math.min(flow, network.cap[pathEdge[k]]);
+                }
+                int retreat = depth;
+                for (int k = 0; k < depth; k++) {
+                    int e = pathEdge[k];
+                    network.cap[e] -= flow;
+                    network.cap[e ^ 1] += flow;
+                    if (network.cap[e] < delta && retreat == depth) {
+                        retreat = k; // first edge that dropped out of the delta graph
+                    }
+                }
+                if (SolverStats.ENABLED) {
+                    stats.path(depth);
+                }
+                totalFlow += flow;
+                if (totalFlow >= limit) {
+                    return totalFlow;
+                }
+                depth = retreat;
+                continue;
+            }
+
+            int e = it[u];
+            while (e != -1 && !(network.cap[e] >= delta && level[network.to[e]] == level[u] + 1)) {
+                e = network.next[e];
+            }
+            it[u] = e;
+
+            if (e == -1) {
+                if (depth == 0) {
+                    return totalFlow;
+                }
+                level[u] = -1; // dead end for the rest of this level graph
+                depth--;
+                it[stack[depth]] = network.next[it[stack[depth]]];
+                continue;
+            }
+
+            pathEdge[depth] = e;
+            stack[++depth] = network.to[e];
+        }
+    }
+
+    // Capacity-scaling max flow on the given network, the flow is left in network.cap
+    @Override
+    public int maxFlow(FlowNetwork network, int source, int sink) {
+        this.network = network;
+        int vertices = network.vertices;
+        level = new int[vertices];
+        it = new int[vertices];
+        queue = new int[vertices];
+        stack = new int[vertices];
+        pathEdge = new int[vertices];
+        int maxFlow = 0;
+        if (SolverStats.ENABLED) {
+            stats.resetCounters();
+        }
+
+        int largest = 0;
+        for (int e = 0; e < network.edges; e++) {
+            largest = Math.max(largest, network.cap[e]);
+        }
+
+        for (int delta = Integer.highestOneBit(Math.max(largest, 1)); delta >= 1 && maxFlow < flowLimit; delta >>>= 1) {
+            while (maxFlow < flowLimit && bfs(source, sink, delta)) {
+                System.arraycopy(network.head, 0, it, 0, vertices);
+                SolverStats.PhaseEvent phase = SolverStats.ENABLED ? stats.beginPhase() : null;
+                int flow = blockingFlow(source, sink, delta, flowLimit - maxFlow);
+                if (SolverStats.ENABLED) {
+                    stats.endPhase(phase, flow, level[sink]);
+                }
+                maxFlow += flow;
+            }
+        }
+        return maxFlow;
+    }
+
+    @Override
+    public SolverStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public void setFlowLimit(int flowLimit) {
+        this.flowLimit = flowLimit;
+    }
+
+    // limits and openings may be null, meaning one job per applicant / one opening per job
+    public int maxJobMatching(Eligibility eligibility, int[] limits, int[] openings, List<String> nameColumn, List<String> jobIdColumn, List<String> degree, List<String> qualification, String path) {
+        int applicants = eligibility.applicants;
+
+        int source = 0;
+        int sink = applicants + eligibility.jobs + 1;
+
+        FlowNetwork network = FlowNetwork.forJobMatching(eligibility, limits, openings);
+        int maxFlow = maxFlow(network, source, sink);
+
+        // Hand the assignments to the background writer, a job appears once per filled opening
+        try (MatchWriter writer = MatchWriter.open(path, "Scaling_output", output, nameColumn, degree, jobIdColumn, qualification)) {
+            for (int u = 1; u <= applicants; u++) {
+                for (int e = network.head[u]; e != -1; e = network.next[e]) {
+                    if (FlowNetwork.isForward(e) && network.flow(e) > 0) {
+                        writer.add(u - 1, network.to[e] - applicants - 1);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return maxFlow;
+    }
+
+    public void setOutput(MatchWriter.Settings output) {
+        this.output = output;
+    }
+
+    public static void main(String[] args) {
+        String[] paths = FileSelectionDialog.openFileAndDirectory();
+        MatchWriter.Settings output = MatchWriter.Settings.parse(args);
+        System.out.println(paths[1]);
+        String outputpath = paths[1];
+        JobDataset data;
+        try {
+            data = JobDataset.read(paths[0]);
+        } catch (IOException | CsvException e) {
+            e.printStackTrace();
+            return;
+        }
+
+        List<String> nameColumn = data.names();
+        List<String> degree = data.degrees();
+        List<String> jobIdColumn = data.jobIds();
+        List<String> qualification = data.qualifications();
+
+        System.out.println(nameColumn.size());
+        System.out.println(qualification.size());
+
+        Eligibility eligibility = EligibilityIndex.build(data);
+        CapacityScalingJobMatching scaling = new CapacityScalingJobMatching();
+        scaling.setOutput(output);
+
+        long startTime = System.nanoTime();
+        int maxMatching = scaling.maxJobMatching(eligibility, data.limits(), data.openings(), nameColumn, jobIdColumn, degree, qualification, outputpath);
+        long endTime = System.nanoTime();
+
+        System.out.println("Maximum Job Assignment is " + maxMatching);
+        System.out.println("Capacity Scaling Runtime: " + (endTime - startTime) + " nanoseconds");
+    }
+}
@@ -0,0 +1,298 @@
+package CS5800_Project;
+import java.util.*;
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.opencsv.exceptions.CsvException;
+
+import java.util.List;
+
+/**
+ * Splits the matching into the connected components of the applicant/job graph.
+ *
+ * Applicants and jobs in different components never share an edge (BBA
+ * applicants only reach MBA/BBA jobs, the MCA/BCA jobs never see a PhD), so
+ * each component is an independent matching problem. A union-find pass over
+ * the eligibility pairs finds the components, every component with at least
+ * one pair gets its own small network and solver instance, and the
+ * components are solved on a fixed pool, largest first. The per-component
+ * matchings are merged back into one output file. Wall time follows the
+ * largest component instead of the whole input.
+ */
+class ComponentJobMatching {
+    private final String algorithm;
+    private final int threads;
+
+    private int components;        // components with at least one eligible pair, from the last run
+    private int largestComponent;  // applicants + jobs in the biggest of them
+    private MatchWriter.Settings output = MatchWriter.Settings.DEFAULT; // format and echo of the result file
+
+    ComponentJobMatching(String algorithm, int threads) {
+        this.algorithm = algorithm;
+        this.threads = Math.max(1, threads);
+    }
+
+    public int getComponents() {
+        return components;
+    }
+
+    public int getLargestComponent() {
+        return largestComponent;
+    }
+
+    public int maxJobMatching(Eligibility eligibility, List<String> nameColumn, List<String> jobIdColumn, List<String> degree, List<String> qualification, String path) throws InterruptedException {
+        int applicants = eligibility.applicants;
+
+        int[] matchApplicant = solve(eligibility);
+        int totalFlow = 0;
+
+        // Hand the merged matching to the background writer
+        try (MatchWriter writer = MatchWriter.open(path, "Component_output", output, nameColumn, degree, jobIdColumn, qualification)) {
+            for (int u = 0; u < applicants; u++) {
+                if (matchApplicant[u] != -1) {
+                    writer.add(u, matchApplicant[u]);
+                    totalFlow++;
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return totalFlow;
+    }
+
+    // Job matched to every applicant, -1 if none
+    int[] solve(Eligibility eligibility) throws InterruptedException {
+        int applicants = eligibility.applicants;
+        int jobs = eligibility.jobs;
+
+        // Applicant u is node u, job v is node applicants + v
+        int[] componentOf = components(eligibility);
+        int count = 0;
+        for (int c : componentOf) {
+            count = Math.max(count, c + 1);
+        }
+
+        // Counting sort of applicants and jobs by component; local index = position inside the component
+        int[] applicantStart = new int[count + 1];
+        int[] jobStart = new int[count + 1];
+        for (int u = 0; u < applicants; u++) {
+            applicantStart[componentOf[u] + 1]++;
+        }
+        for (int v = 0; v < jobs; v++) {
+            jobStart[componentOf[applicants + v] + 1]++;
+        }
+        for (int c = 0; c < count; c++) {
+            applicantStart[c + 1] += applicantStart[c];
+            jobStart[c + 1] += jobStart[c];
+        }
+        int[] applicantMembers = new int[applicants];
+        int[] jobMembers = new int[jobs];
+        int[] localIndex = new int[applicants + jobs];
+        int[] nextApplicant = Arrays.copyOf(applicantStart, count);
+        int[] nextJob = Arrays.copyOf(jobStart, count);
+        for (int u = 0; u < applicants; u++) {
+            int c = componentOf[u];
+            localIndex[u] = nextApplicant[c] - applicantStart[c];
+            applicantMembers[nextApplicant[c]++] = u;
+        }
+        for (int v = 0; v < jobs; v++) {
+            int c = componentOf[applicants + v];
+            localIndex[applicants + v] = nextJob[c] - jobStart[c];
+            jobMembers[nextJob[c]++] = v;
+        }
+
+        // Only components with both sides can match anything; solve the big ones first
+        List<Integer> order = new ArrayList<>();
+        for (int c = 0; c < count; c++) {
+            if (applicantStart[c + 1] > applicantStart[c] && jobStart[c + 1] > jobStart[c]) {
+                order.add(c);
+            }
+        }
+        order.sort(Comparator.comparingLong((Integer c) -> componentSize(applicantStart, jobStart, c)).reversed());
+        components = order.size();
+        largestComponent = order.isEmpty() ? 0 : (int) componentSize(applicantStart, jobStart, order.get(0));
+
+        int[] matchApplicant = new int[applicants];
+        Arrays.fill(matchApplicant, -1);
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+            for (int c : order) {
+                futures.add(pool.submit(() -> {
+                    int[] localApplicants = Arrays.copyOfRange(applicantMembers, applicantStart[c], applicantStart[c + 1]);
+                    int[] localJobs = Arrays.copyOfRange(jobMembers, jobStart[c], jobStart[c + 1]);
+                    int[] localMatch = solveComponent(eligibility, localApplicants, localJobs, localIndex);
+                    for (int a = 0; a < localMatch.length; a++) {
+                        if (localMatch[a] != -1) {
+                            matchApplicant[localApplicants[a]] = localJobs[localMatch[a]]; // components write disjoint slots
+                        }
+                    }
+                }));
+            }
+        } // close() waits for every component
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Component solve failed", e.getCause());
+            }
+        }
+        return matchApplicant;
+    }
+
+    private static long componentSize(int[] applicantStart, int[] jobStart, int c) {
+        return (long) applicantStart[c + 1] - applicantStart[c] + jobStart[c + 1] - jobStart[c];
+    }
+
+    // Matching of one component in local indices: local applicant -> local job, -1 if unmatched
+    private int[] solveComponent(Eligibility eligibility, int[] localApplicants, int[] localJobs, int[] localIndex) {
+        int applicants = eligibility.applicants;
+
+        // Applicants with the same degree share their row, keep that sharing in the local rows
+        Map<int[], int[]> localRows = new IdentityHashMap<>();
+        int[][] jobsOf = new int[localApplicants.length][];
+        for (int a = 0; a < localApplicants.length; a++) {
+            jobsOf[a] = localRows.computeIfAbsent(eligibility.jobsOf[localApplicants[a]], row -> {
+                int[] local = new int[row.length];
+                for (int k = 0; k < row.length; k++) {
+                    local[k] = localIndex[applicants + row[k]];
+                }
+                Arrays.sort(local);
+                return local;
+            });
+        }
+        Eligibility local = new Eligibility(localApplicants.length, localJobs.length, jobsOf);
+
+        FlowNetwork network = FlowNetwork.forJobMatching(local);
+        MaxFlowSolver solver = JobMatchingCli.solver(algorithm, network.vertices, 1);
+        solver.maxFlow(network, 0, network.vertices - 1);
+
+        int[] match = new int[localApplicants.length];
+        Arrays.fill(match, -1);
+        for (int u = 1; u <= local.applicants; u++) {
+            for (int e = network.head[u]; e != -1; e = network.next[e]) {
+                if (FlowNetwork.isForward(e) && network.flow(e) > 0) {
+                    match[u - 1] = network.to[e] - local.applicants - 1;
+                }
+            }
+        }
+        return match;
+    }
+
+    /**
+     * Dense component id of every node, applicant u is node u and job v is
+     * node applicants + v. Union-find with union by size and path halving,
+     * one union per eligibility pair.
+     */
+    static int[] components(Eligibility eligibility) {
+        int applicants = eligibility.applicants;
+        int nodes = applicants + eligibility.jobs;
+        int[] parent = new int[nodes];
+        int[] size = new int[nodes];
+        for (int i = 0; i < nodes; i++) {
+            parent[i] = i;
+            size[i] = 1;
+        }
+
+        // Rows are shared by degree, so union each distinct row's jobs once and attach the applicants to it
+        Map<int[], Integer> rowRoot = new IdentityHashMap<>();
+        for (int u = 0; u < applicants; u++) {
+            int[] row = eligibility.jobsOf[u];
+            if (row.length == 0) {
+                continue;
+            }
+            Integer root = rowRoot.get(row);
+            if (root == null) {
+                for (int k = 1; k < row.length; k++) {
+                    union(parent, size, applicants + row[0], applicants + row[k]);
+                }
+                root = applicants + row[0];
+                rowRoot.put(row, root);
+            }
+            union(parent, size, u, root);
+        }
+
+        int[] componentOf = new int[nodes];
+        int[] id = new int[nodes];
+        Arrays.fill(id, -1);
+        int count = 0;
+        for (int i = 0; i < nodes; i++) {
+            int root = find(parent, i);
+            if (id[root] == -1) {
+                id[root] = count++;
+            }
+            componentOf[i] = id[root];
+        }
+        return componentOf;
+    }
+
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    private static void union(int[] parent, int[] size, int a, int b) {
+        a = find(parent, a);
+        b = find(parent, b);
+        if (a == b) {
+            return;
+        }
+        if (size[a] < size[b]) {
+            int t = a;
+            a = b;
+            b = t;
+        }
+        parent[b] = a;
+        size[a] += size[b];
+    }
+
+    public void setOutput(MatchWriter.Settings output) {
+        this.output = output;
+    }
+
+    public static void main(String[] args) {
+        String[] paths = FileSelectionDialog.openFileAndDirectory();
+        MatchWriter.Settings output = MatchWriter.Settings.parse(args);
+        System.out.println(paths[1]);
+        String outputpath = paths[1];
+        JobDataset data;
+        try {
+            data = JobDataset.read(paths[0]);
+        } catch (IOException | CsvException e) {
+            e.printStackTrace();
+            return;
+        }
+
+        List<String> nameColumn = data.names();
+        List<String> degree = data.degrees();
+        List<String> jobIdColumn = data.jobIds();
+        List<String> qualification = data.qualifications();
+
+        System.out.println(nameColumn.size());
+        System.out.println(qualification.size());
+
+        Eligibility eligibility = EligibilityIndex.build(data);
+        ComponentJobMatching componentMatching = new ComponentJobMatching("dinic", Runtime.getRuntime().availableProcessors());
+        componentMatching.setOutput(output);
+
+        long startTime = System.nanoTime();
+        int maxMatching;
+        try {
+            maxMatching = componentMatching.maxJobMatching(eligibility, nameColumn, jobIdColumn, degree, qualification, outputpath);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long endTime = System.nanoTime();
+
+        System.out.println("Maximum Job Matching is " + maxMatching);
+        System.out.println(componentMatching.getComponents() + " components, largest has " + componentMatching.getLargestComponent() + " applicants and jobs");
+        System.out.println("Component Dinic's Algorithm Runtime: " + (endTime - startTime) + " nanoseconds");
+    }
+}
@@ -0,0 +1,158 @@
+package CS5800_Project;
+import java.util.*;
+import java.io.IOException;
+
+import com.opencsv.exceptions.CsvException;
+
+import java.util.List;
+
+/**
+ * Solves the matching on equivalence classes instead of individual rows.
+ *
+ * Applicants with the same degree are interchangeable, and so are jobs with the
+ * same qualification string, so the network only has one vertex per distinct
+ * degree and per distinct qualification. Class edges carry the class sizes as
+ * capacities, and the class-to-class flows are handed out to individual
+ * applicants and jobs afterwards. Solve time depends on the number of classes,
+ * not on applicants x jobs.
+ */
+class CompressedJobMatching {
+    private MatchWriter.Settings output = MatchWriter.Settings.DEFAULT; // format and echo of the result file
+
+    public int maxJobMatching(List<String> nameColumn, List<String> jobIdColumn, List<String> degree, List<String> qualification, String path) {
+        int applicants = degree.size();
+        int jobs = qualification.size();
+
+        // Group applicants by degree and jobs by qualification string
+        Map<String, Integer> degreeIds = new HashMap<>();
+        int[] degreeClass = new int[applicants];
+        for (int u = 0; u < applicants; u++) {
+            degreeClass[u] = degreeIds.computeIfAbsent(degree.get(u), k -> degreeIds.size());
+        }
+        Map<String, Integer> qualificationIds = new HashMap<>();
+        int[] qualificationClass = new int[jobs];
+        for (int v = 0; v < jobs; v++) {
+            qualificationClass[v] = qualificationIds.computeIfAbsent(qualification.get(v), k -> qualificationIds.size());
+        }
+        int degrees = degreeIds.size();
+        int qualifications = qualificationIds.size();
+
+        int[] applicantMembers = groupMembers(degreeClass, degrees);
+        int[] jobMembers = groupMembers(qualificationClass, qualifications);
+        int[] applicantStart = classStarts(degreeClass, degrees);
+        int[] jobStart = classStarts(qualificationClass, qualifications);
+
+        String[] degreeNames = new String[degrees];
+        degreeIds.forEach((name, id) -> degreeNames[id] = name);
+        String[] qualificationNames = new String[qualifications];
+        qualificationIds.forEach((name, id) -> qualificationNames[id] = name);
+
+        // source -> degree class -> qualification class -> sink
+        int source = 0;
+        int sink = degrees + qualifications + 1;
+        FlowNetwork network = new FlowNetwork(degrees + qualifications + 2);
+        for (int d = 0; d < degrees; d++) {
+            network.addEdge(source, d + 1, applicantStart[d + 1] - applicantStart[d]);
+        }
+        for (int q = 0; q < qualifications; q++) {
+            network.addEdge(degrees + q + 1, sink, jobStart[q + 1] - jobStart[q]);
+        }
+        for (int d = 0; d < degrees; d++) {
+            for (int q = 0; q < qualifications; q++) {
+                if (qualificationNames[q].contains(degreeNames[d])) {
+                    int capacity = Math.min(applicantStart[d + 1] - applicantStart[d], jobStart[q + 1] - jobStart[q]);
+                    network.addEdge(d + 1, degrees + q + 1, capacity);
+                }
+            }
+        }
+
+        int totalFlow = new DinicJobMatching(network.vertices).maxFlow(network, source, sink);
+
+        // Hand the class flows out to individual applicants and jobs
+        int[] matchApplicant = new int[applicants];
+        Arrays.fill(matchApplicant, -1);
+        int[] nextApplicant = Arrays.copyOf(applicantStart, degrees);
+        int[] nextJob = Arrays.copyOf(jobStart, qualifications);
+        for (int d = 0; d < degrees; d++) {
+            for (int e = network.head[d + 1]; e != -1; e = network.next[e]) {
+                if (!FlowNetwork.isForward(e)) {
+                    continue;
+                }
+                int q = network.to[e] - degrees - 1;
+                for (int f = network.flow(e); f > 0; f--) {
+                    matchApplicant[applicantMembers[nextApplicant[d]++]] = jobMembers[nextJob[q]++];
+                }
+            }
+        }
+
+        // Hand the matched jobs to the background writer
+        try (MatchWriter writer = MatchWriter.open(path, "Compressed_output", output, nameColumn, degree, jobIdColumn, qualification)) {
+            for (int u = 0; u < applicants; u++) {
+                if (matchApplicant[u] != -1) {
+                    writer.add(u, matchApplicant[u]);
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return totalFlow;
+    }
+
+    // Member indices sorted by class (counting sort), class c occupies classStarts(c) .. classStarts(c + 1) - 1
+    private static int[] groupMembers(int[] classOf, int classes) {
+        int[] next = classStarts(classOf, classes);
+        int[] members = new int[classOf.length];
+        for (int i = 0; i < classOf.length; i++) {
+            members[next[classOf[i]]++] = i;
+        }
+        return members;
+    }
+
+    private static int[] classStarts(int[] classOf, int classes) {
+        int[] start = new int[classes + 1];
+        for (int c : classOf) {
+            start[c + 1]++;
+        }
+        for (int c = 0; c < classes; c++) {
+            start[c + 1] += start[c];
+        }
+        return start;
+    }
+
+    public void setOutput(MatchWriter.Settings output) {
+        this.output = output;
+    }
+
+    public static void main(String[] args) {
+        String[] paths = FileSelectionDialog.openFileAndDirectory();
+        MatchWriter.Settings output = MatchWriter.Settings.parse(args);
+        System.out.println(paths[1]);
+        String outputpath = paths[1];
+        JobDataset data;
+        try {
+            data = JobDataset.read(paths[0]);
+        } catch (IOException | CsvException e) {
+            e.printStackTrace();
+            return;
+        }
+
+        List<String> nameColumn = data.names();
+        List<String> degree = data.degrees();
+        List<String> jobIdColumn = data.jobIds();
+        List<String> qualification = data.qualifications();
+
+        System.out.println(nameColumn.size());
+        System.out.println(qualification.size());
+
+        CompressedJobMatching compressed = new CompressedJobMatching();
+        compressed.setOutput(output);
+
+        long startTime = System.nanoTime();
+        int maxMatching = compressed.maxJobMatching(nameColumn, jobIdColumn, degree, qualification, outputpath);
+        long endTime = System.nanoTime();
+
+        System.out.println("Maximum Job Matching is " + maxMatching);
+        System.out.println("Compressed Dinic's Algorithm Runtime: " + (endTime - startTime) + " nanoseconds");
+    }
+}
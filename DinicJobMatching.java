@@ -1,67 +1,70 @@
 package CS5800_Project;
 import java.util.*;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
 
-import com.opencsv.CSVReader;
-import com.opencsv.CSVWriter;
 import com.opencsv.exceptions.CsvException;
 
-
-import javax.swing.*;
-import java.awt.*;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
-import java.io.File;
-
 import java.util.List;
-import java.util.Queue;
 
-class DinicJobMatching {
+class DinicJobMatching implements MaxFlowSolver {
     private static final int INF = Integer.MAX_VALUE;
 
     private int vertices;
-    private List<Edge>[] adjList;
+    private FlowNetwork network;
     private int[] level;
-
-    private static class Edge {
-        int to, rev, capacity, flow;
-
-        Edge(int to, int rev, int capacity) {
-            this.to = to;
-            this.rev = rev;
-            this.capacity = capacity;
-            this.flow = 0;
-        }
-    }
+    private boolean warmStart;      // seed the flow with a Karp-Sipser matching first
+    private int savedAugmentations; // pairs found by the warm start in the last run
+    private int flowLimit = INF;    // stop once the flow reaches this, see MatchingBound
+    private int threads = 1;        // more than one runs the phases with ParallelDinic
+    private ParallelDinic parallel; // solver of the last maxJobMatching if it ran with threads, reports its stats
+    private final SolverStats stats = new SolverStats();
+    private MatchWriter.Settings output = MatchWriter.Settings.DEFAULT; // format and echo of the result file
+
+    // Work arrays, allocated once per network size and reused by every phase
+    private int[] it;       // current arc of each vertex
+    private int[] queue;    // BFS queue
+    private int[] stack;    // vertices on the DFS path
+    private int[] pathEdge; // edges on the DFS path
 
     public DinicJobMatching(int vertices) {
         this.vertices = vertices;
-        adjList = new ArrayList[vertices];
-        for (int i = 0; i < vertices; i++) {
-            adjList[i] = new ArrayList<>();
-        }
+        network = new FlowNetwork(vertices);
+        allocate(vertices);
+    }
+
+    private void allocate(int vertices) {
         level = new int[vertices];
+        it = new int[vertices];
+        queue = new int[vertices];
+        stack = new int[vertices];
+        pathEdge = new int[vertices];
     }
 
     public void addEdge(int u, int v, int capacity) {
-        adjList[u].add(new Edge(v, adjList[v].size(), capacity));
-        adjList[v].add(new Edge(u, adjList[u].size() - 1, 0));
+        network.addEdge(u, v, capacity);
     }
 
     private boolean bfs(int source, int sink) {
-        Arrays.fill(level, -1);
+        if (SolverStats.ENABLED) {
+            stats.bfsCalls++;
+        }
+        Arrays.fill(level, 0, vertices, -1);
         level[source] = 0;
-        Queue<Integer> queue = new LinkedList<>();
-        queue.add(source);
-
-        while (!queue.isEmpty()) {
-            int u = queue.poll();
-            for (Edge edge : adjList[u]) {
-                if (level[edge.to] < 0 && edge.flow < edge.capacity) {
-                    level[edge.to] = level[u] + 1;
-                    queue.add(edge.to);
+        int head = 0, tail = 0;
+        queue[tail++] = source;
+
+        while (head < tail) {
+            int u = queue[head++];
+            if (SolverStats.ENABLED) {
+                stats.verticesDequeued++;
+            }
+            for (int e = network.head[u]; e != -1; e = network.next[e]) {
+                if (SolverStats.ENABLED) {
+                    stats.edgesScanned++;
+                }
+                if (level[network.to[e]] < 0 && network.cap[e] > 0) {
+                    level[network.to[e]] = level[u] + 1;
+                    queue[tail++] = network.to[e];
                 }
             }
         }
@@ -69,234 +72,209 @@ class DinicJobMatching {
         return level[sink] >= 0;
     }
 
-    private int dfs(int u, int sink, int flow, int[] start) {
-        if (u == sink) return flow;
+    // Blocking flow of the current level graph with an explicit stack instead of recursion.
+    // After each augmentation the search backs up only to the first edge it saturated.
+    private int blockingFlow(int source, int sink, int limit) {
+        int totalFlow = 0;
+        int depth = 0;
+        stack[0] = source;
 
-        for (; start[u] < adjList[u].size(); start[u]++) {
-            Edge edge = adjList[u].get(start[u]);
+        while (true) {
+            int u = stack[depth];
+
+            if (u == sink) {
+                int flow = INF;
+                for (int k = 0; k < depth; k++) {
+                    flow = Math.min(flow, network.cap[pathEdge[k]]);
+                }
+                int retreat = depth;
+                for (int k = 0; k < depth; k++) {
+                    int e = pathEdge[k];
+                    network.cap[e] -= flow;
+                    network.cap[e ^ 1] += flow;
+                    if (network.cap[e] == 0 && retreat == depth) {
+                        retreat = k;
+                    }
+                }
+                if (SolverStats.ENABLED) {
+                    stats.path(depth);
+                }
+                totalFlow += flow;
+                if (totalFlow >= limit) {
+                    return totalFlow; // reached the flow limit, the rest of the phase is not needed
+                }
+                depth = retreat;
+                continue;
+            }
 
-            if (level[edge.to] == level[u] + 1 && edge.flow < edge.capacity) {
-                int currFlow = Math.min(flow, edge.capacity - edge.flow);
-                int tempFlow = dfs(edge.to, sink, currFlow, start);
+            int e = it[u];
+            while (e != -1 && !(network.cap[e] > 0 && level[network.to[e]] == level[u] + 1)) {
+                e = network.next[e];
+            }
+            it[u] = e;
 
-                if (tempFlow > 0) {
-                    edge.flow += tempFlow;
-                    adjList[edge.to].get(edge.rev).flow -= tempFlow;
-                    return tempFlow;
+            if (e == -1) {
+                if (depth == 0) {
+                    return totalFlow;
                 }
+                level[u] = -1; // dead end, nothing reaches it again this phase
+                depth--;
+                it[stack[depth]] = network.next[it[stack[depth]]];
+                continue;
+            }
+
+            pathEdge[depth] = e;
+            stack[++depth] = network.to[e];
+        }
+    }
+
+    // Dinic's max flow on the given network, the flow is left in network.cap
+    @Override
+    public int maxFlow(FlowNetwork network, int source, int sink) {
+        this.network = network;
+        parallel = null;
+        this.vertices = network.vertices;
+        if (level == null || level.length < vertices) {
+            allocate(vertices);
+        }
+        int totalFlow = 0;
+        if (SolverStats.ENABLED) {
+            stats.resetCounters();
+        }
+
+        while (totalFlow < flowLimit && bfs(source, sink)) {
+            System.arraycopy(network.head, 0, it, 0, vertices);
+            SolverStats.PhaseEvent phase = SolverStats.ENABLED ? stats.beginPhase() : null;
+            int flow = blockingFlow(source, sink, flowLimit - totalFlow);
+            if (SolverStats.ENABLED) {
+                stats.endPhase(phase, flow, level[sink]);
             }
+            totalFlow += flow;
         }
 
-        return 0;
+        return totalFlow;
     }
 
-    public int maxJobMatching(int[][] jobGraph, List<String> nameColumn, List<String> jobIdColumn, List<String> degree, List<String> qualification, String path) {
-        int applicants = jobGraph.length;
-        int jobs = jobGraph[0].length;
+    // Counters of the last run, from ParallelDinic if maxJobMatching ran with threads
+    @Override
+    public SolverStats getStats() {
+        return parallel != null ? parallel.getStats() : stats;
+    }
 
-        int source = 0;
-        int sink = applicants + jobs + 1;
+    @Override
+    public void setFlowLimit(int flowLimit) {
+        this.flowLimit = flowLimit;
+    }
 
-        // Initialize the DinicJobMatching object correctly
-        DinicJobMatching dinic = new DinicJobMatching(applicants + jobs + 2);
+    public void setWarmStart(boolean warmStart) {
+        this.warmStart = warmStart;
+    }
 
-        for (int i = 1; i <= applicants; i++) {
-            dinic.addEdge(source, i, 1);
-        }
+    public int getSavedAugmentations() {
+        return savedAugmentations;
+    }
 
-        for (int i = 1; i <= jobs; i++) {
-            dinic.addEdge(applicants + i, sink, 1);
-        }
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
 
-        for (int u = 0; u < applicants; u++) {
-            for (int v = 0; v < jobs; v++) {
-                if (jobGraph[u][v] == 1) {
-                    dinic.addEdge(u + 1, applicants + v + 1, 1);
-                }
-            }
-        }
+    public int maxJobMatching(int[][] jobGraph, List<String> nameColumn, List<String> jobIdColumn, List<String> degree, List<String> qualification, String path) {
+        return maxJobMatching(Eligibility.fromMatrix(jobGraph), nameColumn, jobIdColumn, degree, qualification, path);
+    }
 
-        int totalFlow = 0;
+    public int maxJobMatching(Eligibility eligibility, List<String> nameColumn, List<String> jobIdColumn, List<String> degree, List<String> qualification, String path) {
+        int applicants = eligibility.applicants;
+        int jobs = eligibility.jobs;
 
-        while (dinic.bfs(source, sink)) {
-            int[] start = new int[dinic.vertices];
-            int flow;
+        int source = 0;
+        int sink = applicants + jobs + 1;
 
-            while ((flow = dinic.dfs(source, sink, INF, start)) > 0) {
-                totalFlow += flow;
+        FlowNetwork network = FlowNetwork.forJobMatching(eligibility);
+        savedAugmentations = warmStart ? KarpSipser.seed(network, eligibility) : 0;
+        if (warmStart) {
+            System.out.println("Karp-Sipser warm start saved " + savedAugmentations + " augmentations");
+        }
+        MatchingBound bound = MatchingBound.of(eligibility);
+        int callerLimit = flowLimit; // the bound only applies to this call
+        flowLimit = Math.min(callerLimit, bound.value) - savedAugmentations;
+        int solved;
+        try {
+            if (threads > 1) {
+                parallel = new ParallelDinic(threads);
+                parallel.setFlowLimit(flowLimit);
+                solved = parallel.maxFlow(network, source, sink);
+            } else {
+                solved = maxFlow(network, source, sink);
             }
+        } finally {
+            flowLimit = callerLimit;
         }
+        int totalFlow = savedAugmentations + solved;
+        System.out.println(bound.describe(totalFlow));
 
-        // Print the matched jobs
-        System.out.println("Matched Jobs:");
-        String csvFileout = path+"\\Dinic_output.csv";
-        try(CSVWriter writer = new CSVWriter(new FileWriter(csvFileout))){
-            String[] b = {"name","degree","JobId", "Qualification"};
-            writer.writeNext(b);
+        // Hand the matched jobs to the background writer
+        try (MatchWriter writer = MatchWriter.open(path, "Dinic_output", output, nameColumn, degree, jobIdColumn, qualification)) {
             for (int u = 1; u <= applicants; u++) {
-                for (Edge edge : dinic.adjList[u]) {
-                    if (edge.flow > 0 && edge.to != source) {
-                        System.out.println(nameColumn.get(u-1) + " -> " + degree.get(u-1) +" -> Job ID: " + jobIdColumn.get(edge.to - applicants-1) + " -> " + qualification.get(edge.to - applicants-1));
-                        String[] a = new String[4];
-                        a[0] = nameColumn.get(u-1);
-                        a[1] = degree.get(u-1);
-                        a[2] = jobIdColumn.get(edge.to - applicants-1);
-                        a[3] = qualification.get(edge.to - applicants-1);
-                        // System.out.println(a);
-                        writer.writeNext(a);
+                for (int e = network.head[u]; e != -1; e = network.next[e]) {
+                    if (FlowNetwork.isForward(e) && network.flow(e) > 0) {
+                        writer.add(u - 1, network.to[e] - applicants - 1);
                     }
-
                 }
             }
-        }catch (IOException e) {
+        } catch (IOException e) {
             e.printStackTrace();
         }
 
         return totalFlow;
     }
 
-    public static String[] openFileAndDirectory() {
-        final String[] paths = new String[2]; // 0 - input file path, 1 - output directory path
-        JFrame frame = new JFrame("Select Input File and Output Directory");
-        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        frame.setSize(500, 200);
-        frame.setLayout(new GridLayout(3, 1));
-
-        JButton openFileButton = new JButton("Select Input CSV File");
-        JButton openDirButton = new JButton("Select Output Directory");
-
-        frame.add(openFileButton);
-        frame.add(openDirButton);
-
-        openFileButton.addActionListener(new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                JFileChooser fileChooser = new JFileChooser();
-                fileChooser.setFileSelectionMode(JFileChooser.FILES_ONLY);
-                int returnValue = fileChooser.showOpenDialog(null);
-                if (returnValue == JFileChooser.APPROVE_OPTION) {
-                    File selectedFile = fileChooser.getSelectedFile();
-                    paths[0] = selectedFile.getAbsolutePath();
-                }
-            }
-        });
-
-        openDirButton.addActionListener(new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                JFileChooser dirChooser = new JFileChooser();
-                dirChooser.setFileSelectionMode(JFileChooser.DIRECTORIES_ONLY);
-                int returnValue = dirChooser.showOpenDialog(null);
-                if (returnValue == JFileChooser.APPROVE_OPTION) {
-                    File selectedDir = dirChooser.getSelectedFile();
-                    paths[1] = selectedDir.getAbsolutePath();
-                }
-            }
-        });
-
-        frame.setVisible(true);
-        // Wait for the user to select the file and directory
-        while (paths[0] == null || paths[1] == null) {
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException ex) {
-                ex.printStackTrace();
-            }
-        }
-
-        frame.dispose();
-        return paths;
+    public void setOutput(MatchWriter.Settings output) {
+        this.output = output;
     }
 
     public static void main(String[] args) {
-        String[] paths = openFileAndDirectory();
+        String[] paths = FileSelectionDialog.openFileAndDirectory();
+        MatchWriter.Settings output = MatchWriter.Settings.parse(args);
         System.out.println(paths[1]);
         String outputpath = paths[1];
-        int[][] matrix = new int[1000][1000];
-        List<String> nameColumn = new ArrayList<>();
-        List<String> degree = new ArrayList<>();
-        List<String> jobIdColumn = new ArrayList<>();
-        List<String> qualification = new ArrayList<>();
-
+        JobDataset data;
         try {
-            List<String[]> allRows = readCSV(paths[0]);
-
-            // Lists to store each column
-            
-
-            // Iterate over each row starting from the second row (index 1)
-            for (int i = 1; i < 1001; i++) { // Start from index 1
-                String[] row = allRows.get(i);
-
-                if (row == null || row.length == 0 || isEmptyRow(row)) {
-                    continue; // Skip empty rows
-                }
-
-                nameColumn.add(row[0]);          // Reading 'name' column
-                degree.add(row[1]); // Reading 'qualification' column
-                jobIdColumn.add(row[2]);         // Reading 'jobid' column
-                qualification.add(row[3]);
-            }
-
-            // Print the columns
-            // System.out.println("Name Column: " + nameColumn);
-            // System.out.println("Qualification Column: " + degree);
-            // System.out.println("Job ID Column: " + jobIdColumn);
-            // System.out.println("qualification: " + qualification);
-            System.out.println(nameColumn.size());
-            // System.out.println(degree.size());
-            // System.out.println(jobIdColumn.size());
-            System.out.println(qualification.size());
-
-            for(int i=0;i<999;i++){
-                for(int j=0;j<999;j++){
-                    if(qualification.get(j).contains(degree.get(i))){
-                        matrix[i][j] = 1;
-                    }
-                    else{
-                        matrix[i][j] = 0;
-                    }
-                    // System.out.println("Qualification: "+qualification.get(j)+" degree: "+degree.get(i));
-                    // System.out.println(matrix[i][j]);
-                    
-                }
-            }
-
-            // for (int i = 0; i < matrix.length; i++) {
-            //     for (int j = 0; j < matrix[i].length; j++) {
-            //         System.out.print(matrix[i][j] + " ");
-            //     }
-            //     System.out.println();
-            // }
-
-
+            data = JobDataset.read(paths[0]);
         } catch (IOException | CsvException e) {
             e.printStackTrace();
+            return;
         }
 
-        DinicJobMatching dinic = new DinicJobMatching(matrix.length + matrix[0].length + 2);
+        List<String> nameColumn = data.names();
+        List<String> degree = data.degrees();
+        List<String> jobIdColumn = data.jobIds();
+        List<String> qualification = data.qualifications();
+
+        // Print the columns
+        // System.out.println("Name Column: " + nameColumn);
+        // System.out.println("Qualification Column: " + degree);
+        // System.out.println("Job ID Column: " + jobIdColumn);
+        // System.out.println("qualification: " + qualification);
+        System.out.println(nameColumn.size());
+        // System.out.println(degree.size());
+        // System.out.println(jobIdColumn.size());
+        System.out.println(qualification.size());
+
+        Eligibility eligibility = EligibilityIndex.build(data);
+
+        DinicJobMatching dinic = new DinicJobMatching(eligibility.applicants + eligibility.jobs + 2);
+        dinic.setOutput(output);
+        dinic.setWarmStart(Arrays.asList(args).contains("--warm-start"));
+        int threadsArg = Arrays.asList(args).indexOf("--threads");
+        if (threadsArg >= 0 && threadsArg + 1 < args.length) {
+            dinic.setThreads(Integer.parseInt(args[threadsArg + 1]));
+        }
 
         long startTime = System.nanoTime();
-        int maxMatching = dinic.maxJobMatching(matrix,nameColumn,jobIdColumn,degree,qualification,outputpath);
+        int maxMatching = dinic.maxJobMatching(eligibility,nameColumn,jobIdColumn,degree,qualification,outputpath);
         long endTime = System.nanoTime();
 
         System.out.println("Maximum Job Matching is " + maxMatching); // Output: 4
         System.out.println("Dinic's Algorithm Runtime: " + (endTime - startTime) + " nanoseconds");
     }
-
-    private static List<String[]> readCSV(String filePath) throws IOException, CsvException {
-        try (CSVReader reader = new CSVReader(new FileReader(filePath))) {
-            return reader.readAll();
-        }
-    }
-    
-    // Helper method to check if a row is empty
-    private static boolean isEmptyRow(String[] row) {
-        for (String cell : row) {
-            if (cell != null && !cell.trim().isEmpty()) {
-                return false;
-            }
-        }
-        return true;
-    }
 }
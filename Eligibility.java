@@ -0,0 +1,55 @@
+package CS5800_Project;
+
+import java.util.Arrays;
+
+/**
+ * Sparse applicant -> job eligibility, the replacement for the int[][] matrix.
+ *
+ * jobsOf[a] lists the jobs applicant a qualifies for in ascending order.
+ * Rows are read-only: applicants with the same degree share one array.
+ */
+class Eligibility {
+    final int applicants;
+    final int jobs;
+    final int[][] jobsOf;
+
+    Eligibility(int applicants, int jobs, int[][] jobsOf) {
+        this.applicants = applicants;
+        this.jobs = jobs;
+        this.jobsOf = jobsOf;
+    }
+
+    // Number of applicant -> job pairs
+    long edges() {
+        long edges = 0;
+        for (int[] row : jobsOf) {
+            edges += row.length;
+        }
+        return edges;
+    }
+
+    boolean isEligible(int applicant, int job) {
+        return Arrays.binarySearch(jobsOf[applicant], job) >= 0;
+    }
+
+    static Eligibility fromMatrix(int[][] jobGraph) {
+        int applicants = jobGraph.length;
+        int jobs = jobGraph[0].length;
+        int[][] jobsOf = new int[applicants][];
+        for (int u = 0; u < applicants; u++) {
+            int count = 0;
+            for (int v = 0; v < jobs; v++) {
+                if (jobGraph[u][v] == 1) {
+                    count++;
+                }
+            }
+            jobsOf[u] = new int[count];
+            for (int v = 0, k = 0; v < jobs; v++) {
+                if (jobGraph[u][v] == 1) {
+                    jobsOf[u][k++] = v;
+                }
+            }
+        }
+        return new Eligibility(applicants, jobs, jobsOf);
+    }
+}
@@ -0,0 +1,127 @@
+package CS5800_Project;
+
+import java.util.*;
+
+/**
+ * Builds the applicant -> job eligibility without comparing every applicant
+ * with every job.
+ *
+ * Each distinct Qualifications value is parsed once into its '/' separated
+ * tokens ("MBA/BBA" -> {MBA, BBA}) and indexed as token -> jobs. Each distinct
+ * degree is resolved once against the token dictionary, and every applicant
+ * then gets its row with a single lookup.
+ *
+ * The result is identical to qualification.contains(degree): a degree without
+ * '/' can only occur inside a single token, so a job qualifies exactly when
+ * one of its tokens contains the degree ("B.Com" matches "M.Com/B.Com", "BA"
+ * also matches "MBA/BBA"). Degrees that contain '/' fall back to contains on
+ * the distinct qualification strings.
+ */
+class EligibilityIndex {
+    private static final String SEPARATOR = "/";
+
+    private final String[] qualificationNames;         // distinct Qualifications values
+    private final int[] classStart;                    // jobs of class c are classJobs[classStart[c] .. classStart[c + 1] - 1]
+    private final int[] classJobs;
+    private final Map<String, int[]> tokenClasses = new HashMap<>(); // token -> qualification classes containing it
+    private final Map<String, int[]> rows = new HashMap<>();         // degree -> eligible jobs, shared between applicants
+
+    // qualificationNames holds the distinct values, classOf[v] the value of job v
+    private EligibilityIndex(String[] qualificationNames, int[] classOf) {
+        int classes = qualificationNames.length;
+        this.qualificationNames = qualificationNames;
+
+        classStart = new int[classes + 1];
+        for (int c : classOf) {
+            classStart[c + 1]++;
+        }
+        for (int c = 0; c < classes; c++) {
+            classStart[c + 1] += classStart[c];
+        }
+        int[] next = Arrays.copyOf(classStart, classes);
+        classJobs = new int[classOf.length];
+        for (int v = 0; v < classOf.length; v++) {
+            classJobs[next[classOf[v]]++] = v;
+        }
+
+        Map<String, Set<Integer>> tokens = new HashMap<>();
+        for (int c = 0; c < classes; c++) {
+            for (String token : qualificationNames[c].split(SEPARATOR, -1)) {
+                tokens.computeIfAbsent(token, k -> new TreeSet<>()).add(c);
+            }
+        }
+        tokens.forEach((token, ids) -> tokenClasses.put(token, ids.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    static Eligibility build(List<String> degree, List<String> qualification) {
+        Map<String, Integer> classIds = new HashMap<>();
+        int[] classOf = new int[qualification.size()];
+        for (int v = 0; v < classOf.length; v++) {
+            classOf[v] = classIds.computeIfAbsent(qualification.get(v), k -> classIds.size());
+        }
+        String[] names = new String[classIds.size()];
+        classIds.forEach((name, id) -> names[id] = name);
+
+        EligibilityIndex index = new EligibilityIndex(names, classOf);
+        int[][] jobsOf = new int[degree.size()][];
+        for (int u = 0; u < jobsOf.length; u++) {
+            jobsOf[u] = index.rows.computeIfAbsent(degree.get(u), index::resolve);
+        }
+        return new Eligibility(degree.size(), qualification.size(), jobsOf);
+    }
+
+    // Same result, but the dataset columns are already dictionary encoded
+    static Eligibility build(JobDataset data) {
+        List<String> qualifications = data.qualificationDictionary();
+        EligibilityIndex index = new EligibilityIndex(qualifications.toArray(new String[0]), data.qualificationCodes());
+
+        List<String> degrees = data.degreeDictionary();
+        int[][] degreeRows = new int[degrees.size()][];
+        for (int d = 0; d < degreeRows.length; d++) {
+            degreeRows[d] = index.resolve(degrees.get(d));
+        }
+
+        int[] degreeCodes = data.degreeCodes();
+        int[][] jobsOf = new int[data.size()][];
+        for (int u = 0; u < jobsOf.length; u++) {
+            jobsOf[u] = degreeRows[degreeCodes[u]];
+        }
+        return new Eligibility(data.size(), data.size(), jobsOf);
+    }
+
+    // Jobs whose Qualifications value contains the degree, ascending
+    private int[] resolve(String degree) {
+        boolean[] matched = new boolean[qualificationNames.length];
+        if (degree.contains(SEPARATOR)) {
+            for (int c = 0; c < qualificationNames.length; c++) {
+                matched[c] = qualificationNames[c].contains(degree);
+            }
+        } else {
+            for (Map.Entry<String, int[]> entry : tokenClasses.entrySet()) {
+                if (entry.getKey().contains(degree)) {
+                    for (int c : entry.getValue()) {
+                        matched[c] = true;
+                    }
+                }
+            }
+        }
+
+        int count = 0;
+        for (int c = 0; c < matched.length; c++) {
+            if (matched[c]) {
+                count += classStart[c + 1] - classStart[c];
+            }
+        }
+        int[] row = new int[count];
+        int k = 0;
+        for (int c = 0; c < matched.length; c++) {
+            if (matched[c]) {
+                for (int i = classStart[c]; i < classStart[c + 1]; i++) {
+                    row[k++] = classJobs[i];
+                }
+            }
+        }
+        Arrays.sort(row);
+        return row;
+    }
+}
@@ -0,0 +1,68 @@
+package CS5800_Project;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.io.File;
+
+/**
+ * Swing dialog used by the *JobMatching mains to pick the input CSV file and
+ * the output directory. Kept out of the solver classes so that
+ * JobMatchingCli and other headless callers never load AWT/Swing.
+ */
+class FileSelectionDialog {
+
+    public static String[] openFileAndDirectory() {
+        final String[] paths = new String[2]; // 0 - input file path, 1 - output directory path
+        JFrame frame = new JFrame("Select Input File and Output Directory");
+        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        frame.setSize(500, 200);
+        frame.setLayout(new GridLayout(3, 1));
+
+        JButton openFileButton = new JButton("Select Input CSV File");
+        JButton openDirButton = new JButton("Select Output Directory");
+
+        frame.add(openFileButton);
+        frame.add(openDirButton);
+
+        openFileButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                JFileChooser fileChooser = new JFileChooser();
+                fileChooser.setFileSelectionMode(JFileChooser.FILES_ONLY);
+                int returnValue = fileChooser.showOpenDialog(null);
+                if (returnValue == JFileChooser.APPROVE_OPTION) {
+                    File selectedFile = fileChooser.getSelectedFile();
+                    paths[0] = selectedFile.getAbsolutePath();
+                }
+            }
+        });
+
+        openDirButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                JFileChooser dirChooser = new JFileChooser();
+                dirChooser.setFileSelectionMode(JFileChooser.DIRECTORIES_ONLY);
+                int returnValue = dirChooser.showOpenDialog(null);
+                if (returnValue == JFileChooser.APPROVE_OPTION) {
+                    File selectedDir = dirChooser.getSelectedFile();
+                    paths[1] = selectedDir.getAbsolutePath();
+                }
+            }
+        });
+
+        frame.setVisible(true);
+        // Wait for the user to select the file and directory
+        while (paths[0] == null || paths[1] == null) {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException ex) {
+                ex.printStackTrace();
+            }
+        }
+
+        frame.dispose();
+        return paths;
+    }
+}
@@ -0,0 +1,126 @@
+package CS5800_Project;
+
+import java.util.Arrays;
+
+/**
+ * Sparse flow network shared by the max-flow solvers.
+ *
+ * Every vertex keeps a singly linked list of its edges inside flat int arrays
+ * (head/next/to/cap), so no Edge objects or V x V matrices are allocated.
+ * Edges are always added in pairs: the forward edge gets an even index and its
+ * reverse edge the following odd index, so the reverse of edge e is e ^ 1.
+ * cap holds the residual capacity of each edge.
+ */
+public class FlowNetwork {
+    public int vertices;
+    public int edges;
+
+    public int[] head; // first edge leaving each vertex, -1 if none
+    public int[] next; // next edge leaving the same vertex, -1 at the end
+    public int[] to;   // vertex the edge points to
+    public int[] cap;  // residual capacity
+
+    public FlowNetwork(int vertices) {
+        this(vertices, 16);
+    }
+
+    // edgeCapacity is the expected number of forward edges, used to size the arrays up front
+    public FlowNetwork(int vertices, int edgeCapacity) {
+        this.vertices = vertices;
+        head = new int[Math.max(vertices, 1)];
+        Arrays.fill(head, -1);
+        int slots = Math.max(2 * edgeCapacity, 2);
+        next = new int[slots];
+        to = new int[slots];
+        cap = new int[slots];
+    }
+
+    public int addVertex() {
+        if (vertices == head.length) {
+            int oldLength = head.length;
+            head = Arrays.copyOf(head, oldLength * 2);
+            Arrays.fill(head, oldLength, head.length, -1);
+        }
+        return vertices++;
+    }
+
+    // Adds u -> v with the given capacity plus its zero capacity reverse edge, returns the forward edge index
+    public int addEdge(int u, int v, int capacity) {
+        if (edges + 2 > to.length) {
+            int length = to.length * 2;
+            next = Arrays.copyOf(next, length);
+            to = Arrays.copyOf(to, length);
+            cap = Arrays.copyOf(cap, length);
+        }
+
+        int e = edges;
+        to[e] = v;
+        cap[e] = capacity;
+        next[e] = head[u];
+        head[u] = e;
+
+        to[e + 1] = u;
+        cap[e + 1] = 0;
+        next[e + 1] = head[v];
+        head[v] = e + 1;
+
+        edges += 2;
+        return e;
+    }
+
+    // Flow currently carried by forward edge e (its reverse edge started with zero capacity)
+    public int flow(int e) {
+        return cap[e ^ 1];
+    }
+
+    // Vertex the edge leaves from
+    public int from(int e) {
+        return to[e ^ 1];
+    }
+
+    public static boolean isForward(int e) {
+        return (e & 1) == 0;
+    }
+
+    /**
+     * Builds the applicant/job network used by the *JobMatching classes:
+     * vertex 0 is the source, 1..applicants are applicants, the next jobs
+     * vertices are jobs and the last vertex is the sink. Every edge has capacity 1.
+     */
+    public static FlowNetwork forJobMatching(int[][] jobGraph) {
+        return forJobMatching(Eligibility.fromMatrix(jobGraph));
+    }
+
+    static FlowNetwork forJobMatching(Eligibility eligibility) {
+        return forJobMatching(eligibility, null, null);
+    }
+
+    /**
+     * Same network with source -> applicant capacities from limits and
+     * job -> sink capacities from openings (null means 1 each). Applicant ->
+     * job edges stay 1, an applicant takes a given job at most once.
+     */
+    static FlowNetwork forJobMatching(Eligibility eligibility, int[] limits, int[] openings) {
+        int applicants = eligibility.applicants;
+        int jobs = eligibility.jobs;
+
+        int source = 0;
+        int sink = applicants + jobs + 1;
+        FlowNetwork network = new FlowNetwork(applicants + jobs + 2, (int) Math.min(applicants + jobs + eligibility.edges(), Integer.MAX_VALUE / 2));
+
+        for (int i = 1; i <= applicants; i++) {
+            network.addEdge(source, i, limits == null ? 1 : limits[i - 1]);
+        }
+
+        for (int i = 1; i <= jobs; i++) {
+            network.addEdge(applicants + i, sink, openings == null ? 1 : openings[i - 1]);
+        }
+
+        for (int u = 0; u < applicants; u++) {
+            for (int v : eligibility.jobsOf[u]) {
+                network.addEdge(u + 1, applicants + v + 1, 1);
+            }
+        }
+        return network;
+    }
+}
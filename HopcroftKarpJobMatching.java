@@ -0,0 +1,171 @@
+package CS5800_Project;
+import java.util.*;
+import java.io.IOException;
+
+import com.opencsv.exceptions.CsvException;
+
+import java.util.List;
+
+// Hopcroft-Karp works on the applicant/job bipartite graph directly, no source, sink or residual edges
+class HopcroftKarpJobMatching {
+    private static final int NIL = -1;
+    private static final int INF = Integer.MAX_VALUE;
+
+    private int applicants;
+    private int jobs;
+
+    private int[][] jobsOf;       // eligible jobs of each applicant
+
+    private int[] matchApplicant; // job matched to each applicant, NIL if free
+    private int[] matchJob;       // applicant matched to each job, NIL if free
+    private int[] dist;           // BFS layer of each applicant in the current phase
+    private int[] queue;
+    private int[] it;             // next position in jobsOf[a] to try for each applicant
+    private int[] stack;
+    private int freeDist;         // layer at which the shortest augmenting paths end
+    private MatchWriter.Settings output = MatchWriter.Settings.DEFAULT; // format and echo of the result file
+
+    // Builds the layers from all free applicants, stops at the first layer that reaches a free job
+    private boolean bfs() {
+        int head = 0, tail = 0;
+        for (int a = 0; a < applicants; a++) {
+            if (matchApplicant[a] == NIL) {
+                dist[a] = 0;
+                queue[tail++] = a;
+            } else {
+                dist[a] = INF;
+            }
+        }
+
+        freeDist = INF;
+        while (head < tail) {
+            int a = queue[head++];
+            if (dist[a] >= freeDist) {
+                continue;
+            }
+            for (int job : jobsOf[a]) {
+                int b = matchJob[job];
+                if (b == NIL) {
+                    freeDist = dist[a];
+                } else if (dist[b] == INF) {
+                    dist[b] = dist[a] + 1;
+                    queue[tail++] = b;
+                }
+            }
+        }
+        return freeDist != INF;
+    }
+
+    // Iterative DFS along the layers from a free applicant, flips the path when it reaches a free job
+    private boolean augment(int root) {
+        int top = 0;
+        stack[top++] = root;
+
+        while (top > 0) {
+            int a = stack[top - 1];
+            if (it[a] == jobsOf[a].length) {
+                dist[a] = INF; // dead end for the rest of this phase
+                top--;
+                continue;
+            }
+
+            int b = matchJob[jobsOf[a][it[a]]];
+            if (b == NIL) {
+                if (dist[a] == freeDist) {
+                    for (int i = top - 1; i >= 0; i--) {
+                        int x = stack[i];
+                        int job = jobsOf[x][it[x]];
+                        matchApplicant[x] = job;
+                        matchJob[job] = x;
+                    }
+                    return true;
+                }
+            } else if (dist[b] == dist[a] + 1) {
+                stack[top++] = b;
+                continue;
+            }
+            it[a]++;
+        }
+        return false;
+    }
+
+    public int maxJobMatching(int[][] jobGraph, List<String> nameColumn, List<String> jobIdColumn, List<String> degree, List<String> qualification, String path) {
+        return maxJobMatching(Eligibility.fromMatrix(jobGraph), nameColumn, jobIdColumn, degree, qualification, path);
+    }
+
+    public int maxJobMatching(Eligibility eligibility, List<String> nameColumn, List<String> jobIdColumn, List<String> degree, List<String> qualification, String path) {
+        applicants = eligibility.applicants;
+        jobs = eligibility.jobs;
+        jobsOf = eligibility.jobsOf;
+
+        matchApplicant = new int[applicants];
+        matchJob = new int[jobs];
+        Arrays.fill(matchApplicant, NIL);
+        Arrays.fill(matchJob, NIL);
+        dist = new int[applicants];
+        queue = new int[applicants];
+        it = new int[applicants];
+        stack = new int[applicants];
+
+        int matching = 0;
+        while (bfs()) {
+            Arrays.fill(it, 0);
+            for (int a = 0; a < applicants; a++) {
+                if (matchApplicant[a] == NIL && augment(a)) {
+                    matching++;
+                }
+            }
+        }
+
+        // Hand the matched jobs to the background writer
+        try (MatchWriter writer = MatchWriter.open(path, "HK_output", output, nameColumn, degree, jobIdColumn, qualification)) {
+            for (int u = 0; u < applicants; u++) {
+                if (matchApplicant[u] != NIL) {
+                    writer.add(u, matchApplicant[u]);
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return matching;
+    }
+
+    public void setOutput(MatchWriter.Settings output) {
+        this.output = output;
+    }
+
+    public static void main(String[] args) {
+        String[] paths = FileSelectionDialog.openFileAndDirectory();
+        MatchWriter.Settings output = MatchWriter.Settings.parse(args);
+        System.out.println(paths[1]);
+        String outputpath = paths[1];
+        JobDataset data;
+        try {
+            data = JobDataset.read(paths[0]);
+        } catch (IOException | CsvException e) {
+            e.printStackTrace();
+            return;
+        }
+
+        List<String> nameColumn = data.names();
+        List<String> degree = data.degrees();
+        List<String> jobIdColumn = data.jobIds();
+        List<String> qualification = data.qualifications();
+
+        System.out.println(nameColumn.size());
+        System.out.println(qualification.size());
+
+        Eligibility eligibility = EligibilityIndex.build(data);
+
+        HopcroftKarpJobMatching hk = new HopcroftKarpJobMatching();
+        hk.setOutput(output);
+
+        long startTime = System.nanoTime();
+        int maxMatching = hk.maxJobMatching(eligibility, nameColumn, jobIdColumn, degree, qualification, outputpath);
+        long endTime = System.nanoTime();
+
+        System.out.println("Maximum Job Matching is " + maxMatching);
+        System.out.println("Hopcroft-Karp Algorithm Runtime: " + (endTime - startTime) + " nanoseconds");
+    }
+}
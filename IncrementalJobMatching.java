@@ -0,0 +1,277 @@
+package CS5800_Project;
+
+import java.util.Arrays;
+
+/**
+ * Keeps a maximum job matching up to date while applicants, jobs and
+ * eligibility change, without re-solving from scratch.
+ *
+ * The first solve is a normal Dinic run on the applicant/job FlowNetwork and
+ * its residual state is kept. Every change moves the optimum by at most one:
+ * an addition can only add one augmenting path, and a removal first cancels
+ * the unit of flow through the removed vertex or edge and then needs at most
+ * one augmenting path to recover. So each update is one or two BFS searches
+ * over the residual network.
+ *
+ * Applicants and jobs are identified by their index in the initial
+ * Eligibility; added ones get the next free index.
+ */
+class IncrementalJobMatching {
+    private static final int NIL = -1;
+
+    private final FlowNetwork network;
+    private final int source;
+    private final int sink;
+    private int matching;
+
+    private int applicants;
+    private int jobs;
+    private int[] applicantVertex;
+    private int[] jobVertex;
+    private boolean[] applicantRemoved;
+    private boolean[] jobRemoved;
+
+    private int[] terminalEdge; // source -> applicant or job -> sink edge of each vertex
+    private int[] jobOfVertex;  // job index of each job vertex, NIL for other vertices
+
+    private int[] parentEdge;
+    private int[] queue;
+    private int[] seen; // BFS stamp per vertex, avoids clearing a visited array per search
+    private int stamp;
+
+    IncrementalJobMatching(Eligibility eligibility) {
+        applicants = eligibility.applicants;
+        jobs = eligibility.jobs;
+        network = FlowNetwork.forJobMatching(eligibility);
+        source = 0;
+        sink = applicants + jobs + 1;
+        matching = new DinicJobMatching(network.vertices).maxFlow(network, source, sink);
+
+        applicantVertex = new int[applicants];
+        applicantRemoved = new boolean[applicants];
+        for (int a = 0; a < applicants; a++) {
+            applicantVertex[a] = a + 1;
+        }
+        jobVertex = new int[jobs];
+        jobRemoved = new boolean[jobs];
+        for (int j = 0; j < jobs; j++) {
+            jobVertex[j] = applicants + j + 1;
+        }
+
+        int vertices = network.vertices;
+        terminalEdge = new int[vertices];
+        jobOfVertex = new int[vertices];
+        Arrays.fill(terminalEdge, NIL);
+        Arrays.fill(jobOfVertex, NIL);
+        for (int e = network.head[source]; e != -1; e = network.next[e]) {
+            terminalEdge[network.to[e]] = e;
+        }
+        for (int e = network.head[sink]; e != -1; e = network.next[e]) {
+            terminalEdge[network.to[e]] = e ^ 1;
+        }
+        for (int j = 0; j < jobs; j++) {
+            jobOfVertex[jobVertex[j]] = j;
+        }
+
+        parentEdge = new int[vertices];
+        queue = new int[vertices];
+        seen = new int[vertices];
+    }
+
+    int matchingSize() {
+        return matching;
+    }
+
+    // Job matched to the applicant, NIL if unmatched or removed
+    int matchedJob(int applicant) {
+        if (applicantRemoved[applicant]) {
+            return NIL;
+        }
+        int v = applicantVertex[applicant];
+        for (int e = network.head[v]; e != -1; e = network.next[e]) {
+            if (FlowNetwork.isForward(e) && network.flow(e) > 0) {
+                return jobOfVertex[network.to[e]];
+            }
+        }
+        return NIL;
+    }
+
+    int addApplicant(int[] eligibleJobs) {
+        int v = newVertex();
+        int a = applicants++;
+        applicantVertex = grow(applicantVertex, a);
+        applicantRemoved = grow(applicantRemoved, a);
+        applicantVertex[a] = v;
+
+        int edge = network.addEdge(source, v, 1);
+        terminalEdge[v] = edge;
+        for (int j : eligibleJobs) {
+            if (!jobRemoved[j]) {
+                network.addEdge(v, jobVertex[j], 1);
+            }
+        }
+
+        // Any new augmenting path has to start with the new applicant
+        augment(v, edge);
+        return a;
+    }
+
+    int addJob(int[] eligibleApplicants) {
+        int v = newVertex();
+        int j = jobs++;
+        jobVertex = grow(jobVertex, j);
+        jobRemoved = grow(jobRemoved, j);
+        jobVertex[j] = v;
+        jobOfVertex[v] = j;
+
+        terminalEdge[v] = network.addEdge(v, sink, 1);
+        for (int a : eligibleApplicants) {
+            if (!applicantRemoved[a]) {
+                network.addEdge(applicantVertex[a], v, 1);
+            }
+        }
+
+        augment(source, NIL);
+        return j;
+    }
+
+    void removeApplicant(int applicant) {
+        if (applicantRemoved[applicant]) {
+            return;
+        }
+        applicantRemoved[applicant] = true;
+        removeVertex(applicantVertex[applicant]);
+    }
+
+    void removeJob(int job) {
+        if (jobRemoved[job]) {
+            return;
+        }
+        jobRemoved[job] = true;
+        removeVertex(jobVertex[job]);
+    }
+
+    void changeEligibility(int applicant, int job, boolean eligible) {
+        if (applicantRemoved[applicant] || jobRemoved[job]) {
+            return;
+        }
+        int e = findEdge(applicantVertex[applicant], jobVertex[job]);
+
+        if (eligible) {
+            if (e == NIL) {
+                network.addEdge(applicantVertex[applicant], jobVertex[job], 1);
+            } else if (network.cap[e] + network.cap[e ^ 1] == 0) {
+                network.cap[e] = 1; // revive an edge removed earlier
+            } else {
+                return;
+            }
+            augment(source, NIL);
+        } else if (e != NIL && network.cap[e] + network.cap[e ^ 1] > 0) {
+            if (network.flow(e) > 0) {
+                cancel(terminalEdge[applicantVertex[applicant]], e, terminalEdge[jobVertex[job]]);
+            }
+            network.cap[e] = 0;
+            network.cap[e ^ 1] = 0;
+            augment(source, NIL);
+        }
+    }
+
+    // Cancels the unit of flow through v, disconnects v and repairs the matching
+    private void removeVertex(int v) {
+        for (int e = network.head[v]; e != -1; e = network.next[e]) {
+            int forward = e & ~1;
+            if (network.flow(forward) > 0 && forward != terminalEdge[v]) {
+                int applicantSide = network.from(forward);
+                int jobSide = network.to[forward];
+                cancel(terminalEdge[applicantSide], forward, terminalEdge[jobSide]);
+            }
+        }
+        for (int e = network.head[v]; e != -1; e = network.next[e]) {
+            network.cap[e] = 0;
+            network.cap[e ^ 1] = 0;
+        }
+        augment(source, NIL);
+    }
+
+    // Pushes one unit back along source -> applicant -> job -> sink
+    private void cancel(int sourceEdge, int eligibilityEdge, int sinkEdge) {
+        unpush(sourceEdge);
+        unpush(eligibilityEdge);
+        unpush(sinkEdge);
+        matching--;
+    }
+
+    private void unpush(int e) {
+        network.cap[e]++;
+        network.cap[e ^ 1]--;
+    }
+
+    // One BFS from start; on success pushes one unit along firstEdge (if any) and the path found
+    private boolean augment(int start, int firstEdge) {
+        if (firstEdge != NIL && network.cap[firstEdge] == 0) {
+            return false;
+        }
+        stamp++;
+        int head = 0, tail = 0;
+        queue[tail++] = start;
+        seen[start] = stamp;
+        seen[source] = stamp;
+
+        while (head < tail) {
+            int u = queue[head++];
+            for (int e = network.head[u]; e != -1; e = network.next[e]) {
+                int v = network.to[e];
+                if (seen[v] != stamp && network.cap[e] > 0) {
+                    seen[v] = stamp;
+                    parentEdge[v] = e;
+                    if (v == sink) {
+                        for (int x = sink; x != start; x = network.from(parentEdge[x])) {
+                            network.cap[parentEdge[x]]--;
+                            network.cap[parentEdge[x] ^ 1]++;
+                        }
+                        if (firstEdge != NIL) {
+                            network.cap[firstEdge]--;
+                            network.cap[firstEdge ^ 1]++;
+                        }
+                        matching++;
+                        return true;
+                    }
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return false;
+    }
+
+    private int findEdge(int u, int v) {
+        for (int e = network.head[u]; e != -1; e = network.next[e]) {
+            if (FlowNetwork.isForward(e) && network.to[e] == v) {
+                return e;
+            }
+        }
+        return NIL;
+    }
+
+    private int newVertex() {
+        int v = network.addVertex();
+        if (v == terminalEdge.length) {
+            int length = v * 2;
+            terminalEdge = Arrays.copyOf(terminalEdge, length);
+            jobOfVertex = Arrays.copyOf(jobOfVertex, length);
+            parentEdge = Arrays.copyOf(parentEdge, length);
+            queue = Arrays.copyOf(queue, length);
+            seen = Arrays.copyOf(seen, length);
+        }
+        terminalEdge[v] = NIL;
+        jobOfVertex[v] = NIL;
+        return v;
+    }
+
+    private static int[] grow(int[] array, int index) {
+        return index < array.length ? array : Arrays.copyOf(array, Math.max(2 * array.length, index + 1));
+    }
+
+    private static boolean[] grow(boolean[] array, int index) {
+        return index < array.length ? array : Arrays.copyOf(array, Math.max(2 * array.length, index + 1));
+    }
+}
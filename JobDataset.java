@@ -0,0 +1,247 @@
+package CS5800_Project;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.*;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvException;
+
+/**
+ * Name/Degree/Job Id/Qualifications columns read from the input CSV.
+ *
+ * Rows are streamed one at a time with CSVReader.readNext() and written
+ * straight into the columns, so the parsed String[] rows are never held
+ * together and the sizes come from the real row count. Degree and
+ * Qualifications are dictionary encoded: each row keeps an int code, each
+ * distinct value is stored once.
+ *
+ * Two optional columns, found by header name, turn rows into capacities:
+ * "Openings" is the number of positions of the row's job and "Limit" the
+ * number of jobs the row's applicant may take. Missing columns or empty
+ * cells mean 1; when neither column exists openings() and limits() are null.
+ * An optional "Priority" column ranks the row's job for MinCostJobMatching,
+ * higher is preferred. Empty cells mean 0, and priorities() is null without
+ * the column.
+ */
+class JobDataset {
+    private static final int NAME = 0, DEGREE = 1, JOB_ID = 2, QUALIFICATION = 3;
+    static final String OPENINGS = "Openings", LIMIT = "Limit", PRIORITY = "Priority";
+
+    private int rows;
+    private String[] names = new String[1024];
+    private String[] jobIds = new String[1024];
+    private int[] degreeCodes = new int[1024];
+    private int[] qualificationCodes = new int[1024];
+    private int[] openings; // per job row, null without an Openings column
+    private int[] limits;   // per applicant row, null without a Limit column
+    private int[] priorities; // per job row, null without a Priority column
+
+    private final List<String> degreeDictionary = new ArrayList<>();
+    private final List<String> qualificationDictionary = new ArrayList<>();
+    private final Map<String, Integer> degreeIndex = new HashMap<>();
+    private final Map<String, Integer> qualificationIndex = new HashMap<>();
+
+    static JobDataset read(String filePath) throws IOException, CsvException {
+        JobDataset data = new JobDataset();
+        try (CSVReader reader = new CSVReader(new BufferedReader(new FileReader(filePath), 1 << 16))) {
+            String[] row = reader.readNext(); // header
+            int openingsColumn = column(row, OPENINGS);
+            int limitColumn = column(row, LIMIT);
+            int priorityColumn = column(row, PRIORITY);
+            if (openingsColumn >= 0) {
+                data.openings = new int[1024];
+            }
+            if (limitColumn >= 0) {
+                data.limits = new int[1024];
+            }
+            if (priorityColumn >= 0) {
+                data.priorities = new int[1024];
+            }
+            while ((row = reader.readNext()) != null) {
+                if (row.length == 0 || isEmptyRow(row)) {
+                    continue; // Skip empty rows
+                }
+                int index = data.rows;
+                long line = reader.getLinesRead(); // physical line in the file, header included
+                data.add(cell(row, NAME), cell(row, DEGREE), cell(row, JOB_ID), cell(row, QUALIFICATION));
+                if (data.openings != null) {
+                    data.openings[index] = number(row, openingsColumn, OPENINGS, line, 1, 1);
+                }
+                if (data.limits != null) {
+                    data.limits[index] = number(row, limitColumn, LIMIT, line, 1, 1);
+                }
+                if (data.priorities != null) {
+                    data.priorities[index] = number(row, priorityColumn, PRIORITY, line, 0, 0);
+                }
+            }
+        }
+        data.trim();
+        return data;
+    }
+
+    private void add(String name, String degree, String jobId, String qualification) {
+        if (rows == names.length) {
+            int length = rows * 2;
+            names = Arrays.copyOf(names, length);
+            jobIds = Arrays.copyOf(jobIds, length);
+            degreeCodes = Arrays.copyOf(degreeCodes, length);
+            qualificationCodes = Arrays.copyOf(qualificationCodes, length);
+            if (openings != null) {
+                openings = Arrays.copyOf(openings, length);
+            }
+            if (limits != null) {
+                limits = Arrays.copyOf(limits, length);
+            }
+            if (priorities != null) {
+                priorities = Arrays.copyOf(priorities, length);
+            }
+        }
+        names[rows] = name;
+        jobIds[rows] = jobId;
+        degreeCodes[rows] = encode(degree, degreeIndex, degreeDictionary);
+        qualificationCodes[rows] = encode(qualification, qualificationIndex, qualificationDictionary);
+        rows++;
+    }
+
+    private static int encode(String value, Map<String, Integer> index, List<String> dictionary) {
+        Integer code = index.get(value);
+        if (code == null) {
+            code = dictionary.size();
+            index.put(value, code);
+            dictionary.add(value);
+        }
+        return code;
+    }
+
+    private void trim() {
+        names = Arrays.copyOf(names, rows);
+        jobIds = Arrays.copyOf(jobIds, rows);
+        degreeCodes = Arrays.copyOf(degreeCodes, rows);
+        qualificationCodes = Arrays.copyOf(qualificationCodes, rows);
+        if (openings != null) {
+            openings = Arrays.copyOf(openings, rows);
+        }
+        if (limits != null) {
+            limits = Arrays.copyOf(limits, rows);
+        }
+        if (priorities != null) {
+            priorities = Arrays.copyOf(priorities, rows);
+        }
+    }
+
+    // Index of the header cell with the given name, ignoring case and surrounding spaces, -1 if absent
+    private static int column(String[] header, String name) {
+        for (int c = 0; header != null && c < header.length; c++) {
+            if (header[c] != null && header[c].trim().equalsIgnoreCase(name)) {
+                return c;
+            }
+        }
+        return -1;
+    }
+
+    // Integer of at least min in the cell, empty if it is empty
+    private static int number(String[] row, int column, String name, long line, int empty, int min) throws CsvException {
+        String value = cell(row, column).trim();
+        if (value.isEmpty()) {
+            return empty;
+        }
+        try {
+            int number = Integer.parseInt(value);
+            if (number >= min) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new CsvException("Line " + line + ": " + name + " must be " + (min > 0 ? "a positive" : "a non-negative")
+                + " integer, got \"" + value + "\"");
+    }
+
+    int size() {
+        return rows;
+    }
+
+    List<String> names() {
+        return Arrays.asList(names).subList(0, rows);
+    }
+
+    List<String> jobIds() {
+        return Arrays.asList(jobIds).subList(0, rows);
+    }
+
+    List<String> degrees() {
+        return decoded(degreeCodes, degreeDictionary);
+    }
+
+    List<String> qualifications() {
+        return decoded(qualificationCodes, qualificationDictionary);
+    }
+
+    // Openings of every job row, null if the file has no Openings column
+    int[] openings() {
+        return openings;
+    }
+
+    // Job limit of every applicant row, null if the file has no Limit column
+    int[] limits() {
+        return limits;
+    }
+
+    // Priority of every job row, null if the file has no Priority column
+    int[] priorities() {
+        return priorities;
+    }
+
+    boolean hasCapacities() {
+        return openings != null || limits != null;
+    }
+
+    int[] degreeCodes() {
+        return degreeCodes;
+    }
+
+    int[] qualificationCodes() {
+        return qualificationCodes;
+    }
+
+    List<String> degreeDictionary() {
+        return Collections.unmodifiableList(degreeDictionary);
+    }
+
+    List<String> qualificationDictionary() {
+        return Collections.unmodifiableList(qualificationDictionary);
+    }
+
+    // Read-only view that decodes on access
+    private List<String> decoded(int[] codes, List<String> dictionary) {
+        int size = rows;
+        return new AbstractList<String>() {
+            @Override
+            public String get(int index) {
+                Objects.checkIndex(index, size);
+                return dictionary.get(codes[index]);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private static String cell(String[] row, int column) {
+        return column < row.length && row[column] != null ? row[column] : "";
+    }
+
+    // Helper method to check if a row is empty
+    private static boolean isEmptyRow(String[] row) {
+        for (String cell : row) {
+            if (cell != null && !cell.trim().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,304 @@
+package CS5800_Project;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import com.opencsv.exceptions.CsvException;
+
+/**
+ * Headless entry point for the job matching:
+ *
+ *   java CS5800_Project.JobMatchingCli --input data.csv --output out [--algorithm ff|ek|dinic|pr|scaling] [--warm-start] [--threads N]
+ *        [--binary] [--echo N] [--stats stats.json] [--cache directory] [--cache-size MB]
+ *        [--off-heap network.bin] [--cut bottlenecks.csv]
+ *
+ * --output is the result file, or a directory to write <ALGORITHM>_output.csv
+ * (.bin with --binary, see MatchWriter) into. --echo N prints at most N
+ * matches per second. There is no file dialog, so it runs on machines
+ * without a display and never loads AWT/Swing. --stats turns on the
+ * SolverStats counters and writes them, with the stage timings, as JSON.
+ * --cache keeps finished matchings in a MatchCache (at most --cache-size MB,
+ * default 256): rerunning the same file, or one with its rows reordered,
+ * reuses the stored matching and skips the eligibility build and the solve.
+ * --off-heap builds the network in the given file (MappedFlowNetwork) and
+ * solves it there with MappedDinic, for networks larger than the heap;
+ * --algorithm, --threads and --warm-start do not apply to it, and its
+ * results are cached as dinic. --cut reads the min cut out of the solved
+ * network (BottleneckReport), prints the bottleneck qualifications and
+ * writes the per degree / qualification counts to the given CSV; it needs
+ * the residual network, so it is skipped on a cache hit and with --off-heap.
+ *
+ * Files with an Openings and/or Limit column (see JobDataset) are solved
+ * with those capacities; --algorithm scaling picks the capacity-scaling
+ * solver meant for them. Such files bypass --cache, the upper bound and
+ * the warm start, which all assume one opening per job and one job per
+ * applicant.
+ */
+public class JobMatchingCli {
+    static final List<String> ALGORITHMS = List.of("ff", "ek", "dinic", "pr", "scaling");
+    static final String USAGE = "Usage: JobMatchingCli --input <file.csv> --output <file or directory> [--algorithm ff|ek|dinic|pr|scaling] [--warm-start] [--threads N] [--binary] [--echo N] [--stats <file.json>] [--cache <directory>] [--cache-size MB] [--off-heap <network file>] [--cut <file.csv>]";
+    static final long DEFAULT_CACHE_MB = 256;
+
+    // New solver for the algorithm name, vertices sizes Dinic's work arrays
+    static MaxFlowSolver solver(String algorithm, int vertices, int threads) {
+        switch (algorithm.toLowerCase()) {
+            case "ff":
+                return new FFJobMatching();
+            case "ek":
+                return new EKJobMatching();
+            case "dinic":
+                return threads > 1 ? new ParallelDinic(threads) : new DinicJobMatching(vertices);
+            case "pr":
+                return new PushRelabelJobMatching();
+            case "scaling":
+                return new CapacityScalingJobMatching();
+            default:
+                throw new IllegalArgumentException("Unknown algorithm " + algorithm + ", expected ff, ek, dinic, pr or scaling");
+        }
+    }
+
+    // Output file name the GUI mains use for the algorithm, without extension
+    static String outputName(String algorithm) {
+        switch (algorithm.toLowerCase()) {
+            case "dinic":
+                return "Dinic_output";
+            case "scaling":
+                return "Scaling_output";
+            default:
+                return algorithm.toUpperCase() + "_output";
+        }
+    }
+
+    public static void main(String[] args) {
+        List<String> arguments = List.of(args);
+        String input = option(args, "--input");
+        String output = option(args, "--output");
+        String algorithm = option(args, "--algorithm");
+        String statsFile = option(args, "--stats");
+        String cacheDirectory = option(args, "--cache");
+        String offHeap = option(args, "--off-heap");
+        String cutFile = option(args, "--cut");
+        if (statsFile != null) {
+            System.setProperty("jobmatching.stats", "true"); // ENABLED is read once, when SolverStats is loaded
+            new SolverStats(); // load it now, so the JFR setup is not timed as part of a stage
+        }
+        MatchWriter.Format format = arguments.contains("--binary") ? MatchWriter.Format.BINARY : MatchWriter.Format.CSV;
+        if (input == null || output == null) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        if (algorithm == null) {
+            algorithm = "dinic";
+        }
+        if (!ALGORITHMS.contains(algorithm.toLowerCase())) {
+            System.err.println("Unknown algorithm " + algorithm);
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        int threads = (int) numberOption(args, "--threads", 1, 1, Integer.MAX_VALUE, USAGE);
+        int echoPerSecond = (int) numberOption(args, "--echo", 0, 0, Integer.MAX_VALUE, USAGE);
+        long cacheMegabytes = numberOption(args, "--cache-size", DEFAULT_CACHE_MB, 0, Long.MAX_VALUE >> 20, USAGE);
+
+        try {
+            long readStart = System.nanoTime();
+            JobDataset data = JobDataset.read(input);
+            long eligibilityStart = System.nanoTime();
+            boolean capacities = data.hasCapacities();
+            if (capacities && offHeap != null) {
+                System.err.println("--off-heap does not support Openings or Limit columns");
+                System.exit(2);
+            }
+            MatchCache cache = null;
+            MatchCache.Key key = null;
+            int[] matchApplicant = null;
+            FlowNetwork multiAssignment = null; // solved network when applicants may take several jobs
+            FlowNetwork solved = null;          // residual network kept for --cut
+            Eligibility eligibility = null;
+            int maxMatching = 0;
+            if (cacheDirectory != null && capacities) {
+                System.out.println("Openings/Limit columns present, --cache skipped");
+            } else if (cacheDirectory != null) {
+                cache = new MatchCache(Paths.get(cacheDirectory), cacheMegabytes << 20);
+                key = MatchCache.key(offHeap != null ? "dinic" : algorithm, data); // --off-heap always solves with Dinic
+                matchApplicant = cache.get(key);
+            }
+
+            SolverStats stats;
+            long solveStart;
+            boolean hit = matchApplicant != null;
+            if (hit) {
+                solveStart = System.nanoTime();
+                stats = new SolverStats();
+                System.out.println("Cache hit " + key.hash + ", solve skipped");
+                for (int job : matchApplicant) {
+                    if (job != -1) {
+                        maxMatching++;
+                    }
+                }
+            } else if (offHeap != null) {
+                eligibility = EligibilityIndex.build(data);
+                try (MappedFlowNetwork network = MappedFlowNetwork.forJobMatching(eligibility, Paths.get(offHeap))) {
+                    solveStart = System.nanoTime();
+                    maxMatching = new MappedDinic().maxFlow(network, 0, network.vertices - 1);
+                    matchApplicant = matching(network, eligibility);
+                }
+                stats = new SolverStats();
+            } else {
+                eligibility = EligibilityIndex.build(data);
+                FlowNetwork network = FlowNetwork.forJobMatching(eligibility, data.limits(), data.openings());
+                int source = 0;
+                int sink = network.vertices - 1;
+
+                MaxFlowSolver solver = solver(algorithm, network.vertices, threads);
+                solveStart = System.nanoTime();
+                if (capacities) {
+                    maxMatching = solver.maxFlow(network, source, sink);
+                } else {
+                    MatchingBound bound = MatchingBound.of(eligibility);
+                    int seeded = arguments.contains("--warm-start") ? KarpSipser.seed(network, eligibility) : 0;
+                    solver.setFlowLimit(bound.value - seeded);
+                    maxMatching = seeded + solver.maxFlow(network, source, sink);
+                    System.out.println(bound.describe(maxMatching));
+                }
+                if (data.limits() == null) {
+                    matchApplicant = matching(network, eligibility);
+                } else {
+                    multiAssignment = network;
+                }
+                stats = solver.getStats();
+                stats.network(eligibility, network);
+                solved = network;
+            }
+            if (cache != null && !hit) {
+                cache.put(key, matchApplicant);
+            }
+
+            long writeStart = System.nanoTime();
+            Path outputPath = Paths.get(output);
+            if (Files.isDirectory(outputPath)) {
+                outputPath = MatchWriter.outputFile(output, outputName(algorithm), format);
+            }
+            if (multiAssignment != null) {
+                writeMatching(multiAssignment, eligibility, data, format, echoPerSecond, outputPath);
+            } else {
+                writeMatching(matchApplicant, data, format, echoPerSecond, outputPath);
+            }
+            long end = System.nanoTime();
+
+            stats.parseNanos = eligibilityStart - readStart;
+            stats.eligibilityNanos = solveStart - eligibilityStart;
+            stats.solveNanos = writeStart - solveStart;
+            stats.writeNanos = end - writeStart;
+
+            System.out.println("Maximum Job Matching is " + maxMatching);
+            System.out.println("Parse: " + stats.parseNanos / 1e6 + " ms, eligibility: " + stats.eligibilityNanos / 1e6
+                    + " ms, solve: " + stats.solveNanos / 1e6 + " ms, write: " + stats.writeNanos / 1e6 + " ms");
+            System.out.println("Results written to " + outputPath);
+            if (cutFile != null && solved == null) {
+                System.out.println("--cut needs the solved network, skipped " + (hit ? "on a cache hit" : "with --off-heap"));
+            } else if (cutFile != null) {
+                BottleneckReport report = BottleneckReport.of(solved, eligibility, data);
+                report.write(Paths.get(cutFile));
+                System.out.println(report.summary(5));
+                System.out.println("Bottlenecks written to " + cutFile);
+            }
+            if (statsFile != null) {
+                stats.commit(algorithm, maxMatching);
+                Files.writeString(Paths.get(statsFile), stats.toJson(algorithm, maxMatching));
+                System.out.println("Stats written to " + statsFile);
+            }
+        } catch (IOException | CsvException e) {
+            System.err.println("Job matching failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    // Queues every applicant -> job match of the solved network to a MatchWriter, applicants with a Limit may have several
+    static void writeMatching(FlowNetwork network, Eligibility eligibility, JobDataset data,
+                              MatchWriter.Format format, int echo, Path file) throws IOException {
+        int applicants = eligibility.applicants;
+        try (MatchWriter writer = new MatchWriter(file, format, echo, data.names(), data.degrees(), data.jobIds(), data.qualifications())) {
+            for (int u = 1; u <= applicants; u++) {
+                for (int e = network.head[u]; e != -1; e = network.next[e]) {
+                    if (FlowNetwork.isForward(e) && network.flow(e) > 0) {
+                        writer.add(u - 1, network.to[e] - applicants - 1);
+                    }
+                }
+            }
+        }
+    }
+
+    // Same, from the job row matched to every applicant row (-1 if none)
+    static void writeMatching(int[] matchApplicant, JobDataset data, MatchWriter.Format format, int echo, Path file) throws IOException {
+        try (MatchWriter writer = new MatchWriter(file, format, echo, data.names(), data.degrees(), data.jobIds(), data.qualifications())) {
+            for (int u = 0; u < matchApplicant.length; u++) {
+                if (matchApplicant[u] != -1) {
+                    writer.add(u, matchApplicant[u]);
+                }
+            }
+        }
+    }
+
+    // Job row matched to every applicant row of the solved network, -1 if none
+    static int[] matching(FlowNetwork network, Eligibility eligibility) {
+        int applicants = eligibility.applicants;
+        int[] matchApplicant = new int[applicants];
+        Arrays.fill(matchApplicant, -1);
+        for (int u = 1; u <= applicants; u++) {
+            for (int e = network.head[u]; e != -1; e = network.next[e]) {
+                if (FlowNetwork.isForward(e) && network.flow(e) > 0) {
+                    matchApplicant[u - 1] = network.to[e] - applicants - 1;
+                }
+            }
+        }
+        return matchApplicant;
+    }
+
+    // Same for a network solved off-heap
+    static int[] matching(MappedFlowNetwork network, Eligibility eligibility) {
+        int applicants = eligibility.applicants;
+        int[] matchApplicant = new int[applicants];
+        Arrays.fill(matchApplicant, -1);
+        for (int u = 1; u <= applicants; u++) {
+            for (int e = network.head(u); e != -1; e = network.next(e)) {
+                if (FlowNetwork.isForward(e) && network.flow(e) > 0) {
+                    matchApplicant[u - 1] = network.to(e) - applicants - 1;
+                }
+            }
+        }
+        return matchApplicant;
+    }
+
+    // Whole-number option between min and max, fallback if absent; prints the usage and exits otherwise
+    static long numberOption(String[] args, String name, long fallback, long min, long max, String usage) {
+        String value = option(args, name);
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            long number = Long.parseLong(value);
+            if (number >= min && number <= max) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        System.err.println("Invalid " + name + " value " + value);
+        System.err.println(usage);
+        System.exit(2);
+        return fallback;
+    }
+
+    private static String option(String[] args, String name) {
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,184 @@
+package CS5800_Project;
+
+import java.util.Arrays;
+
+/**
+ * Karp-Sipser initial matching, used to warm start the augmenting-path solvers.
+ *
+ * While some applicant or job has exactly one free neighbour left, matching
+ * it to that neighbour is always safe (some maximum matching contains that
+ * pair). When no such vertex exists, the next free applicant is matched
+ * greedily to its first free job. The pairs found are then pushed into the
+ * applicant/job FlowNetwork, so the solver only has to find the remaining
+ * augmenting paths. Runs in O(V + E).
+ */
+class KarpSipser {
+    private static final int NIL = -1;
+
+    private final Eligibility eligibility;
+    private final int applicants;
+    private final int jobs;
+
+    // Eligible applicants of job j are applicantsOf[applicantStart[j] .. applicantStart[j + 1] - 1]
+    private final int[] applicantStart;
+    private final int[] applicantsOf;
+
+    private final int[] matchApplicant;
+    private final int[] matchJob;
+    private final int[] degree; // free neighbours left, applicants first then jobs
+    private final int[] stack;  // vertices whose degree dropped to one
+    private int top;
+
+    private KarpSipser(Eligibility eligibility) {
+        this.eligibility = eligibility;
+        applicants = eligibility.applicants;
+        jobs = eligibility.jobs;
+
+        applicantStart = new int[jobs + 1];
+        for (int[] row : eligibility.jobsOf) {
+            for (int j : row) {
+                applicantStart[j + 1]++;
+            }
+        }
+        for (int j = 0; j < jobs; j++) {
+            applicantStart[j + 1] += applicantStart[j];
+        }
+        int[] next = Arrays.copyOf(applicantStart, jobs);
+        applicantsOf = new int[applicantStart[jobs]];
+        for (int a = 0; a < applicants; a++) {
+            for (int j : eligibility.jobsOf[a]) {
+                applicantsOf[next[j]++] = a;
+            }
+        }
+
+        matchApplicant = new int[applicants];
+        matchJob = new int[jobs];
+        Arrays.fill(matchApplicant, NIL);
+        Arrays.fill(matchJob, NIL);
+        degree = new int[applicants + jobs];
+        stack = new int[applicants + jobs];
+        for (int a = 0; a < applicants; a++) {
+            degree[a] = eligibility.jobsOf[a].length;
+            pushIfDegreeOne(a);
+        }
+        for (int j = 0; j < jobs; j++) {
+            degree[applicants + j] = applicantStart[j + 1] - applicantStart[j];
+            pushIfDegreeOne(applicants + j);
+        }
+    }
+
+    /**
+     * Pushes a Karp-Sipser matching into a network built by
+     * FlowNetwork.forJobMatching(eligibility) that carries no flow yet.
+     * Returns the number of pairs seeded, i.e. augmenting paths the solver
+     * no longer has to find.
+     */
+    static int seed(FlowNetwork network, Eligibility eligibility) {
+        KarpSipser ks = new KarpSipser(eligibility);
+        int matched = ks.run();
+
+        int applicants = eligibility.applicants;
+        int sink = applicants + eligibility.jobs + 1;
+        int[] jobSinkEdge = new int[eligibility.jobs];
+        for (int e = network.head[sink]; e != -1; e = network.next[e]) {
+            jobSinkEdge[network.to[e] - applicants - 1] = e ^ 1;
+        }
+
+        for (int e = network.head[0]; e != -1; e = network.next[e]) {
+            int u = network.to[e];
+            int job = ks.matchApplicant[u - 1];
+            if (job == NIL) {
+                continue;
+            }
+            for (int f = network.head[u]; f != -1; f = network.next[f]) {
+                if (network.to[f] == applicants + job + 1 && FlowNetwork.isForward(f)) {
+                    push(network, e);
+                    push(network, f);
+                    push(network, jobSinkEdge[job]);
+                    break;
+                }
+            }
+        }
+        return matched;
+    }
+
+    private static void push(FlowNetwork network, int e) {
+        network.cap[e]--;
+        network.cap[e ^ 1]++;
+    }
+
+    private int run() {
+        int matched = 0;
+        int greedy = 0; // next applicant to try greedily
+
+        while (true) {
+            int x = NIL;
+            while (top > 0) {
+                int v = stack[--top];
+                if (degree[v] == 1 && !isMatched(v)) {
+                    x = v;
+                    break;
+                }
+            }
+
+            if (x == NIL) {
+                while (greedy < applicants && (matchApplicant[greedy] != NIL || degree[greedy] == 0)) {
+                    greedy++;
+                }
+                if (greedy == applicants) {
+                    return matched;
+                }
+                x = greedy;
+            }
+
+            // First free neighbour, the only one when degree[x] == 1
+            if (x < applicants) {
+                for (int j : eligibility.jobsOf[x]) {
+                    if (matchJob[j] == NIL) {
+                        match(x, j);
+                        break;
+                    }
+                }
+            } else {
+                int j = x - applicants;
+                for (int k = applicantStart[j]; k < applicantStart[j + 1]; k++) {
+                    if (matchApplicant[applicantsOf[k]] == NIL) {
+                        match(applicantsOf[k], j);
+                        break;
+                    }
+                }
+            }
+            matched++;
+        }
+    }
+
+    private void match(int a, int j) {
+        matchApplicant[a] = j;
+        matchJob[j] = a;
+
+        // Both endpoints are gone, their free neighbours each lose one option
+        for (int other : eligibility.jobsOf[a]) {
+            if (matchJob[other] == NIL) {
+                degree[applicants + other]--;
+                pushIfDegreeOne(applicants + other);
+            }
+        }
+        for (int k = applicantStart[j]; k < applicantStart[j + 1]; k++) {
+            int other = applicantsOf[k];
+            if (matchApplicant[other] == NIL) {
+                degree[other]--;
+                pushIfDegreeOne(other);
+            }
+        }
+    }
+
+    private boolean isMatched(int v) {
+        return v < applicants ? matchApplicant[v] != NIL : matchJob[v - applicants] != NIL;
+    }
+
+    private void pushIfDegreeOne(int v) {
+        if (degree[v] == 1) {
+            stack[top++] = v;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package CS5800_Project;
+
+import java.util.Arrays;
+
+/**
+ * FlowNetwork with long capacities, for networks whose capacities or total
+ * flow do not fit in an int (pipe networks with capacities in the billions).
+ *
+ * Same paired-edge layout as FlowNetwork: the forward edge has an even index,
+ * its reverse edge the following odd one, so the reverse of e is e ^ 1, and
+ * cap holds the residual capacity of each edge.
+ */
+public class LongFlowNetwork {
+    public int vertices;
+    public int edges;
+
+    public int[] head;  // first edge leaving each vertex, -1 if none
+    public int[] next;  // next edge leaving the same vertex, -1 at the end
+    public int[] to;    // vertex the edge points to
+    public long[] cap;  // residual capacity
+
+    public LongFlowNetwork(int vertices) {
+        this(vertices, 16);
+    }
+
+    // edgeCapacity is the expected number of forward edges, used to size the arrays up front
+    public LongFlowNetwork(int vertices, int edgeCapacity) {
+        this.vertices = vertices;
+        head = new int[Math.max(vertices, 1)];
+        Arrays.fill(head, -1);
+        int slots = Math.max(2 * edgeCapacity, 2);
+        next = new int[slots];
+        to = new int[slots];
+        cap = new long[slots];
+    }
+
+    // Adds u -> v with the given capacity plus its zero capacity reverse edge, returns the forward edge index
+    public int addEdge(int u, int v, long capacity) {
+        if (edges + 2 > to.length) {
+            int length = to.length * 2;
+            next = Arrays.copyOf(next, length);
+            to = Arrays.copyOf(to, length);
+            cap = Arrays.copyOf(cap, length);
+        }
+
+        int e = edges;
+        to[e] = v;
+        cap[e] = capacity;
+        next[e] = head[u];
+        head[u] = e;
+
+        to[e + 1] = u;
+        cap[e + 1] = 0;
+        next[e + 1] = head[v];
+        head[v] = e + 1;
+
+        edges += 2;
+        return e;
+    }
+
+    // Flow currently carried by forward edge e (its reverse edge started with zero capacity)
+    public long flow(int e) {
+        return cap[e ^ 1];
+    }
+
+    // Vertex the edge leaves from
+    public int from(int e) {
+        return to[e ^ 1];
+    }
+}
@@ -0,0 +1,114 @@
+package CS5800_Project;
+
+import java.util.Arrays;
+
+/**
+ * Dinic's algorithm on a MappedFlowNetwork, the same BFS levels and
+ * iterative current-arc DFS as DinicJobMatching, reading and updating the
+ * edge arrays in place in the mapped file.
+ *
+ * Only the per-vertex work arrays (level, current arc, queue, DFS path) live
+ * on the heap, 20 bytes per vertex, so the heap needed is independent of the
+ * number of edges.
+ */
+class MappedDinic {
+    private static final int INF = Integer.MAX_VALUE;
+
+    private MappedFlowNetwork network;
+    private int[] level;
+    private int[] it;       // current arc of each vertex
+    private int[] queue;    // BFS queue
+    private int[] stack;    // vertices on the DFS path
+    private int[] pathEdge; // edges on the DFS path
+
+    // Max flow from source to sink, the flow is left in the mapped cap array
+    int maxFlow(MappedFlowNetwork network, int source, int sink) {
+        this.network = network;
+        int vertices = network.vertices;
+        if (level == null || level.length < vertices) {
+            level = new int[vertices];
+            it = new int[vertices];
+            queue = new int[vertices];
+            stack = new int[vertices];
+            pathEdge = new int[vertices];
+        }
+
+        int totalFlow = 0;
+        while (bfs(source, sink)) {
+            for (int u = 0; u < vertices; u++) {
+                it[u] = network.head(u);
+            }
+            totalFlow += blockingFlow(source, sink);
+        }
+        return totalFlow;
+    }
+
+    private boolean bfs(int source, int sink) {
+        Arrays.fill(level, 0, network.vertices, -1);
+        level[source] = 0;
+        int head = 0, tail = 0;
+        queue[tail++] = source;
+
+        while (head < tail) {
+            int u = queue[head++];
+            for (int e = network.head(u); e != -1; e = network.next(e)) {
+                int v = network.to(e);
+                if (level[v] < 0 && network.cap(e) > 0) {
+                    level[v] = level[u] + 1;
+                    queue[tail++] = v;
+                }
+            }
+        }
+
+        return level[sink] >= 0;
+    }
+
+    private int blockingFlow(int source, int sink) {
+        int totalFlow = 0;
+        int depth = 0;
+        stack[0] = source;
+
+        while (true) {
+            int u = stack[depth];
+
+            if (u == sink) {
+                int flow = INF;
+                for (int k = 0; k < depth; k++) {
+                    flow = Math.min(flow, network.cap(pathEdge[k]));
+                }
+                int retreat = depth;
+                for (int k = 0; k < depth; k++) {
+                    int e = pathEdge[k];
+                    int remaining = network.cap(e) - flow;
+                    network.setCap(e, remaining);
+                    network.setCap(e ^ 1, network.cap(e ^ 1) + flow);
+                    if (remaining == 0 && retreat == depth) {
+                        retreat = k;
+                    }
+                }
+                totalFlow += flow;
+                depth = retreat;
+                continue;
+            }
+
+            int e = it[u];
+            while (e != -1 && !(network.cap(e) > 0 && level[network.to(e)] == level[u] + 1)) {
+                e = network.next(e);
+            }
+            it[u] = e;
+
+            if (e == -1) {
+                if (depth == 0) {
+                    return totalFlow;
+                }
+                level[u] = -1; // dead end, nothing reaches it again this phase
+                depth--;
+                it[stack[depth]] = network.next(it[stack[depth]]);
+                continue;
+            }
+
+            pathEdge[depth] = e;
+            stack[++depth] = network.to(e);
+        }
+    }
+}
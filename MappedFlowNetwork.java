@@ -0,0 +1,221 @@
+package CS5800_Project;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * FlowNetwork with its arrays in a memory-mapped file instead of on the heap.
+ *
+ * Same layout as FlowNetwork (paired edges, reverse of e is e ^ 1, per-vertex
+ * linked lists through head/next/to/cap), stored as native-order ints:
+ *
+ *   magic "JMG1", vertices, edges, edge slots, head[vertices], next[slots], to[slots], cap[slots]
+ *
+ * The file is mapped in chunks of 2^27 ints (512 MB), since one
+ * MappedByteBuffer cannot exceed 2 GB, so a network is limited by disk and
+ * address space rather than -Xmx. The OS pages the chunks in and out, and
+ * the garbage collector never sees the edges. Edge slots are fixed when the
+ * file is created. MappedDinic solves directly on the mapped arrays.
+ */
+class MappedFlowNetwork implements AutoCloseable {
+    static final int MAGIC = 0x4A4D4731; // "JMG1"
+    private static final int HEADER = 4;   // ints before head[]
+    private static final int CHUNK_SHIFT = 27;
+
+    final int vertices;
+    final int edgeSlots;
+    private int edges;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final IntBuffer[] chunks;
+    private final int shift;
+    private final long mask;
+    private final long nextBase, toBase, capBase;
+
+    private MappedFlowNetwork(Path file, FileChannel channel, int vertices, int edgeSlots, int shift) throws IOException {
+        this.file = file;
+        this.channel = channel;
+        this.vertices = vertices;
+        this.edgeSlots = edgeSlots;
+        this.shift = shift;
+        this.mask = (1L << shift) - 1;
+        nextBase = HEADER + (long) vertices;
+        toBase = nextBase + edgeSlots;
+        capBase = toBase + edgeSlots;
+
+        long ints = capBase + edgeSlots;
+        chunks = new IntBuffer[(int) ((ints + mask) >>> shift)];
+        try {
+            for (int c = 0; c < chunks.length; c++) {
+                long first = (long) c << shift;
+                long length = Math.min(1L << shift, ints - first);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, first * Integer.BYTES, length * Integer.BYTES);
+                chunks[c] = buffer.order(ByteOrder.nativeOrder()).asIntBuffer();
+            }
+        } catch (IOException | RuntimeException e) {
+            closeAfterFailure(channel, e);
+            throw e;
+        }
+    }
+
+    // Closes the channel of a network that failed to set up, before e is rethrown
+    private static void closeAfterFailure(FileChannel channel, Exception e) {
+        try {
+            channel.close();
+        } catch (IOException suppressed) {
+            e.addSuppressed(suppressed);
+        }
+    }
+
+    // New empty network in file (replaced if it exists), room for edgeCapacity forward edges
+    static MappedFlowNetwork create(Path file, int vertices, long edgeCapacity) throws IOException {
+        return create(file, vertices, edgeCapacity, CHUNK_SHIFT);
+    }
+
+    // chunkShift is log2 of the ints per mapped chunk, small values only make sense for testing
+    static MappedFlowNetwork create(Path file, int vertices, long edgeCapacity, int chunkShift) throws IOException {
+        if (2 * edgeCapacity > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Edge indices are ints, at most " + Integer.MAX_VALUE / 2 + " edges, got " + edgeCapacity);
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedFlowNetwork network = new MappedFlowNetwork(file, channel, vertices, (int) Math.max(2 * edgeCapacity, 2), chunkShift);
+        network.set(0, MAGIC);
+        network.set(1, vertices);
+        network.set(2, 0);
+        network.set(3, network.edgeSlots);
+        for (int u = 0; u < vertices; u++) {
+            network.set(HEADER + u, -1);
+        }
+        return network;
+    }
+
+    // Maps an existing network file, including any flow left in cap
+    static MappedFlowNetwork open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        IntBuffer header;
+        try {
+            header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+        } catch (IOException | RuntimeException e) {
+            closeAfterFailure(channel, e);
+            throw e;
+        }
+        if (header.get(0) != MAGIC) {
+            channel.close();
+            throw new IOException("Not a mapped network (or written with another byte order): " + file);
+        }
+        MappedFlowNetwork network = new MappedFlowNetwork(file, channel, header.get(1), header.get(3), CHUNK_SHIFT);
+        network.edges = header.get(2);
+        return network;
+    }
+
+    /**
+     * Same applicant/job network as FlowNetwork.forJobMatching: source 0,
+     * applicants 1..applicants, then the jobs, sink last, every capacity 1.
+     */
+    static MappedFlowNetwork forJobMatching(Eligibility eligibility, Path file) throws IOException {
+        int applicants = eligibility.applicants;
+        int jobs = eligibility.jobs;
+        int source = 0;
+        int sink = applicants + jobs + 1;
+        MappedFlowNetwork network = create(file, applicants + jobs + 2, applicants + jobs + eligibility.edges());
+
+        for (int i = 1; i <= applicants; i++) {
+            network.addEdge(source, i, 1);
+        }
+        for (int i = 1; i <= jobs; i++) {
+            network.addEdge(applicants + i, sink, 1);
+        }
+        for (int u = 0; u < applicants; u++) {
+            for (int v : eligibility.jobsOf[u]) {
+                network.addEdge(u + 1, applicants + v + 1, 1);
+            }
+        }
+        return network;
+    }
+
+    // Adds u -> v with the given capacity plus its zero capacity reverse edge, returns the forward edge index
+    int addEdge(int u, int v, int capacity) {
+        if (edges + 2 > edgeSlots) {
+            throw new IllegalStateException("Mapped network is full, " + edgeSlots / 2 + " edges");
+        }
+        int e = edges;
+        set(toBase + e, v);
+        set(capBase + e, capacity);
+        set(nextBase + e, head(u));
+        setHead(u, e);
+
+        set(toBase + e + 1, u);
+        set(capBase + e + 1, 0);
+        set(nextBase + e + 1, head(v));
+        setHead(v, e + 1);
+
+        edges += 2;
+        set(2, edges);
+        return e;
+    }
+
+    int edges() {
+        return edges;
+    }
+
+    int head(int u) {
+        return get(HEADER + u);
+    }
+
+    int next(int e) {
+        return get(nextBase + e);
+    }
+
+    int to(int e) {
+        return get(toBase + e);
+    }
+
+    int cap(int e) {
+        return get(capBase + e);
+    }
+
+    void setCap(int e, int capacity) {
+        set(capBase + e, capacity);
+    }
+
+    // Flow currently carried by forward edge e
+    int flow(int e) {
+        return cap(e ^ 1);
+    }
+
+    private void setHead(int u, int e) {
+        set(HEADER + u, e);
+    }
+
+    private int get(long index) {
+        return chunks[(int) (index >>> shift)].get((int) (index & mask));
+    }
+
+    private void set(long index, int value) {
+        chunks[(int) (index >>> shift)].put((int) (index & mask), value);
+    }
+
+    Path file() {
+        return file;
+    }
+
+    // The mappings stay valid until the buffers are collected, closing only releases the channel
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // Deletes the backing file after closing, for networks built only for one solve
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(file);
+    }
+}
@@ -0,0 +1,224 @@
+package CS5800_Project;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * On-disk cache of finished matchings, so rerunning the same input skips the
+ * eligibility build and the solve.
+ *
+ * Which applicant can take which job only depends on the multiset of degrees
+ * and the multiset of qualifications, so the key is a SHA-256 over the
+ * algorithm and both columns in sorted order. Shuffling the rows, or changing
+ * names and job ids, gives the same key. Entries store the matching in that
+ * canonical order (applicants sorted by degree, jobs by qualification, ties
+ * by row) and are mapped back onto the rows of whichever file hits them;
+ * rows with equal degree or qualification are interchangeable, so the
+ * mapped matching is valid and of the same size.
+ *
+ * Each entry is one <key>.match file: magic "JMC1", the flow value, then one
+ * int per canonical applicant holding its canonical job or -1. Hits touch
+ * the file's modification time and put evicts the least recently used
+ * entries once the directory is over maxBytes.
+ */
+class MatchCache {
+    static final int MAGIC = 0x4A4D4331; // "JMC1"
+    private static final String SUFFIX = ".match";
+    private static final int BUFFER = 1 << 16;
+
+    private final Path directory;
+    private final long maxBytes;
+
+    // Canonical key of one dataset and algorithm, with the row orders it was computed from
+    static class Key {
+        final String hash;
+        final int[] applicantOrder; // row of the k-th applicant in canonical order
+        final int[] jobOrder;       // row of the k-th job in canonical order
+
+        Key(String hash, int[] applicantOrder, int[] jobOrder) {
+            this.hash = hash;
+            this.applicantOrder = applicantOrder;
+            this.jobOrder = jobOrder;
+        }
+    }
+
+    MatchCache(Path directory, long maxBytes) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.maxBytes = maxBytes;
+    }
+
+    static Key key(String algorithm, JobDataset data) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // every JRE ships SHA-256
+        }
+        update(digest, "JMC1");
+        update(digest, algorithm.toLowerCase());
+        int[] applicantOrder = canonicalOrder(data.degreeCodes(), data.degreeDictionary(), data.size(), digest);
+        int[] jobOrder = canonicalOrder(data.qualificationCodes(), data.qualificationDictionary(), data.size(), digest);
+
+        StringBuilder hash = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hash.append(String.format("%02x", b));
+        }
+        return new Key(hash.toString(), applicantOrder, jobOrder);
+    }
+
+    /**
+     * Rows sorted by their decoded value, ties by row (a counting sort over
+     * the sorted dictionary), and the value/count pairs in that order are
+     * fed to the digest.
+     */
+    private static int[] canonicalOrder(int[] codes, List<String> dictionary, int rows, MessageDigest digest) {
+        Integer[] byValue = new Integer[dictionary.size()];
+        for (int c = 0; c < byValue.length; c++) {
+            byValue[c] = c;
+        }
+        Arrays.sort(byValue, Comparator.comparing(dictionary::get));
+
+        int[] count = new int[dictionary.size()];
+        for (int r = 0; r < rows; r++) {
+            count[codes[r]]++;
+        }
+        int[] start = new int[dictionary.size()];
+        int position = 0;
+        for (int code : byValue) {
+            start[code] = position;
+            position += count[code];
+            update(digest, dictionary.get(code));
+            update(digest, Integer.toString(count[code]));
+        }
+        update(digest, "");
+
+        int[] order = new int[rows];
+        for (int r = 0; r < rows; r++) {
+            order[start[codes[r]]++] = r;
+        }
+        return order;
+    }
+
+    // Length-prefixed, so ("ab", "c") and ("a", "bc") hash differently
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(new byte[]{(byte) (bytes.length >>> 24), (byte) (bytes.length >>> 16), (byte) (bytes.length >>> 8), (byte) bytes.length});
+        digest.update(bytes);
+    }
+
+    /**
+     * Job row matched to every applicant row, -1 if none, or null on a miss.
+     * An entry that cannot be read is dropped and reported as a miss.
+     */
+    int[] get(Key key) throws IOException {
+        Path file = entry(key);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        int rows = key.applicantOrder.length;
+        int[] matchApplicant = new int[rows];
+        Arrays.fill(matchApplicant, -1);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a cache entry: " + file);
+            }
+            int flow = in.readInt();
+            int matched = 0;
+            for (int k = 0; k < rows; k++) {
+                int job = in.readInt();
+                if (job != -1) {
+                    matchApplicant[key.applicantOrder[k]] = key.jobOrder[job];
+                    matched++;
+                }
+            }
+            if (matched != flow) {
+                throw new IOException("Cache entry " + file + " holds " + matched + " matches, expected " + flow);
+            }
+        } catch (IOException | IndexOutOfBoundsException e) {
+            Files.deleteIfExists(file);
+            return null;
+        }
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        return matchApplicant;
+    }
+
+    // Stores the matching (job row per applicant row, -1 if none) and evicts down to maxBytes
+    void put(Key key, int[] matchApplicant) throws IOException {
+        int rows = key.applicantOrder.length;
+        int[] canonicalJob = new int[rows];
+        for (int k = 0; k < rows; k++) {
+            canonicalJob[key.jobOrder[k]] = k;
+        }
+
+        Path file = entry(key);
+        Path temporary = Files.createTempFile(directory, key.hash, ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary), BUFFER))) {
+                int flow = 0;
+                for (int job : matchApplicant) {
+                    if (job != -1) {
+                        flow++;
+                    }
+                }
+                out.writeInt(MAGIC);
+                out.writeInt(flow);
+                for (int k = 0; k < rows; k++) {
+                    int job = matchApplicant[key.applicantOrder[k]];
+                    out.writeInt(job == -1 ? -1 : canonicalJob[job]);
+                }
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+        evict(file);
+    }
+
+    // Deletes the least recently used entries until the cache fits, never the one just written
+    private void evict(Path keep) throws IOException {
+        List<Path> entries = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(p -> p.getFileName().toString().endsWith(SUFFIX)).forEach(entries::add);
+        }
+        long total = 0;
+        List<long[]> info = new ArrayList<>(); // {modified, size} per entry
+        for (Path p : entries) {
+            long[] attributes = {Files.getLastModifiedTime(p).toMillis(), Files.size(p)};
+            info.add(attributes);
+            total += attributes[1];
+        }
+        Integer[] oldestFirst = new Integer[entries.size()];
+        for (int i = 0; i < oldestFirst.length; i++) {
+            oldestFirst[i] = i;
+        }
+        Arrays.sort(oldestFirst, Comparator.comparingLong(i -> info.get(i)[0]));
+        for (int i : oldestFirst) {
+            if (total <= maxBytes) {
+                break;
+            }
+            if (!entries.get(i).equals(keep)) {
+                Files.deleteIfExists(entries.get(i));
+                total -= info.get(i)[1];
+            }
+        }
+    }
+
+    private Path entry(Key key) {
+        return directory.resolve(key.hash + SUFFIX);
+    }
+}
@@ -0,0 +1,35 @@
+package CS5800_Project;
+
+/**
+ * Cost of giving an applicant a job, used by MinCostJobMatching. Lower is
+ * preferred and costs must be non-negative. Only the applicant's Degree and
+ * the job's Qualifications are passed, so a scorer is evaluated once per
+ * distinct (degree, qualification) pair, not once per edge.
+ */
+@FunctionalInterface
+interface MatchScorer {
+    int cost(String degree, String qualification);
+
+    /**
+     * 0 when the job asks for exactly the applicant's degree, k - 1 when the
+     * degree is one of k alternatives ("MBA/BBA" costs 1 for an MBA), and k
+     * when the qualification only contains the degree as text (e.g. "BA"
+     * inside "MBA").
+     */
+    static MatchScorer exactFirst() {
+        return (degree, qualification) -> {
+            String[] alternatives = qualification.split("/", -1);
+            for (String alternative : alternatives) {
+                if (alternative.equals(degree)) {
+                    return alternatives.length - 1;
+                }
+            }
+            return alternatives.length;
+        };
+    }
+
+    // Every eligible pair costs the same, the result is a plain maximum matching
+    static MatchScorer uniform() {
+        return (degree, qualification) -> 0;
+    }
+}
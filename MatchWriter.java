@@ -0,0 +1,275 @@
+package CS5800_Project;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import com.opencsv.CSVWriter;
+
+/**
+ * Output stage for a finished matching.
+ *
+ * The solver thread only queues (applicant row, job row) pairs, in chunks,
+ * and a background thread renders and writes them through a 1 MB buffer.
+ * CSV output has the usual name/degree/JobId/Qualification columns. The
+ * BINARY format is the magic "JMB1" followed by the two row indices of each
+ * match as big-endian ints, 8 bytes per match; the rows refer to the input
+ * CSV (header excluded) and can be read back with readBinary.
+ *
+ * Echoing matches to the console is off unless Settings/--echo asks for it,
+ * and then at most that many lines per second are printed. Format and echo
+ * are passed to every writer, so concurrent writers never share settings.
+ */
+class MatchWriter implements AutoCloseable {
+    enum Format { CSV, BINARY }
+
+    static final int MAGIC = 0x4A4D4231; // "JMB1"
+    private static final int CHUNK = 4096;     // matches per queued chunk
+    private static final int BUFFER = 1 << 20;
+    private static final int[] END = new int[0];
+
+    private final Path file;
+    private final Format format;
+    private final int echoPerSecond;
+    private final List<String> names, degrees, jobIds, qualifications;
+
+    private final BlockingQueue<int[]> queue = new ArrayBlockingQueue<>(16);
+    private final Thread thread;
+    private volatile IOException failure;
+    private int[] chunk = new int[2 * CHUNK];
+    private int size;
+    private boolean closed;
+
+    MatchWriter(Path file, Format format, int echoPerSecond,
+                List<String> names, List<String> degrees, List<String> jobIds, List<String> qualifications) {
+        this.file = file;
+        this.format = format;
+        this.echoPerSecond = echoPerSecond;
+        this.names = names;
+        this.degrees = degrees;
+        this.jobIds = jobIds;
+        this.qualifications = qualifications;
+        thread = new Thread(this::drain, "match-writer");
+        thread.start();
+    }
+
+    // Format and console echo rate of the writers a solver opens
+    static final class Settings {
+        static final Settings DEFAULT = new Settings(Format.CSV, 0);
+
+        final Format format;
+        final int echoPerSecond; // 0 prints nothing
+
+        Settings(Format format, int echoPerSecond) {
+            this.format = format;
+            this.echoPerSecond = Math.max(0, echoPerSecond);
+        }
+
+        // --binary and --echo N from a main's arguments
+        static Settings parse(String[] args) {
+            List<String> arguments = Arrays.asList(args);
+            int echo = arguments.indexOf("--echo");
+            return new Settings(arguments.contains("--binary") ? Format.BINARY : Format.CSV,
+                    echo >= 0 && echo + 1 < args.length ? Integer.parseInt(args[echo + 1]) : 0);
+        }
+    }
+
+    /**
+     * Writer for directory/baseName plus the extension of the output format,
+     * e.g. open(path, "FF_output", Settings.DEFAULT, ...) writes path/FF_output.csv.
+     */
+    static MatchWriter open(String directory, String baseName, Settings settings,
+                            List<String> names, List<String> degrees, List<String> jobIds, List<String> qualifications) {
+        return new MatchWriter(outputFile(directory, baseName, settings.format), settings.format, settings.echoPerSecond,
+                names, degrees, jobIds, qualifications);
+    }
+
+    static Path outputFile(String directory, String baseName, Format format) {
+        return Paths.get(directory).resolve(baseName + (format == Format.BINARY ? ".bin" : ".csv"));
+    }
+
+    Path file() {
+        return file;
+    }
+
+    // Queues one match, applicant and job are 0-based input rows
+    void add(int applicant, int job) throws IOException {
+        if (failure != null) {
+            throw new IOException("Writing " + file + " failed: " + failure, failure);
+        }
+        chunk[size++] = applicant;
+        chunk[size++] = job;
+        if (size == chunk.length) {
+            put(chunk);
+            chunk = new int[2 * CHUNK];
+            size = 0;
+        }
+    }
+
+    // Flushes the last chunk and waits for the writer thread
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (size > 0) {
+            put(Arrays.copyOf(chunk, size));
+        }
+        put(END);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing " + file, e);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void put(int[] pairs) throws IOException {
+        try {
+            queue.put(pairs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing " + file, e);
+        }
+    }
+
+    private void drain() {
+        try (Output output = format == Format.BINARY ? new BinaryOutput() : new CsvOutput()) {
+            Echo echo = new Echo();
+            for (int[] pairs = queue.take(); pairs != END; pairs = queue.take()) {
+                for (int i = 0; i < pairs.length; i += 2) {
+                    output.write(pairs[i], pairs[i + 1]);
+                    echo.print(pairs[i], pairs[i + 1]);
+                }
+            }
+            echo.finish();
+        } catch (IOException | RuntimeException e) {
+            failure = e instanceof IOException ? (IOException) e : new IOException(e);
+            discardUntilEnd();
+        } catch (InterruptedException e) {
+            failure = new IOException("Writer thread interrupted", e);
+        }
+    }
+
+    // Keeps producers from blocking on a full queue once writing has failed
+    private void discardUntilEnd() {
+        try {
+            while (queue.take() != END) {
+                // dropped
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private interface Output extends AutoCloseable {
+        void write(int applicant, int job) throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private class CsvOutput implements Output {
+        private final CSVWriter writer = new CSVWriter(new BufferedWriter(
+                new OutputStreamWriter(Files.newOutputStream(file), StandardCharsets.UTF_8), BUFFER));
+
+        CsvOutput() throws IOException {
+            writer.writeNext(new String[]{"name", "degree", "JobId", "Qualification"});
+        }
+
+        @Override
+        public void write(int applicant, int job) {
+            writer.writeNext(new String[]{names.get(applicant), degrees.get(applicant), jobIds.get(job), qualifications.get(job)});
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    private class BinaryOutput implements Output {
+        private final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER));
+
+        BinaryOutput() throws IOException {
+            out.writeInt(MAGIC);
+        }
+
+        @Override
+        public void write(int applicant, int job) throws IOException {
+            out.writeInt(applicant);
+            out.writeInt(job);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    // At most echoPerSecond lines per second, the rest are only counted
+    private class Echo {
+        private long windowStart = System.nanoTime();
+        private boolean started;
+        private int printed;
+        private long skipped;
+
+        void print(int applicant, int job) {
+            if (echoPerSecond == 0) {
+                return;
+            }
+            long now = System.nanoTime();
+            if (now - windowStart >= 1_000_000_000L) {
+                windowStart = now;
+                printed = 0;
+            }
+            if (printed < echoPerSecond) {
+                if (!started) {
+                    System.out.println("Matched Jobs:");
+                    started = true;
+                }
+                System.out.println(names.get(applicant) + " -> " + degrees.get(applicant) + " -> Job ID: " + jobIds.get(job) + " -> " + qualifications.get(job));
+                printed++;
+            } else {
+                skipped++;
+            }
+        }
+
+        void finish() {
+            if (skipped > 0) {
+                System.out.println("... " + skipped + " more matches not echoed, see " + file);
+            }
+        }
+    }
+
+    // Pairs of a BINARY file as {applicant row, job row}
+    static int[][] readBinary(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a match file: " + file);
+            }
+            long matches = (Files.size(file) - 4) / 8;
+            int[][] pairs = new int[(int) matches][];
+            for (int i = 0; i < pairs.length; i++) {
+                pairs[i] = new int[]{in.readInt(), in.readInt()};
+            }
+            return pairs;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package CS5800_Project;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Cheap upper bounds on the size of a maximum matching, computed before the
+ * solve so FF/EK/Dinic can stop as soon as their flow reaches the tightest
+ * one instead of running a last, failing search over the whole residual
+ * graph (see MaxFlowSolver.setFlowLimit).
+ *
+ *   min(applicants, jobs)
+ *   eligible vertices: applicants with at least one job vs. jobs with at least one applicant
+ *   degree classes:    applicants with the same eligible jobs (same degree) can
+ *                      fill at most min(class size, row length) jobs, summed
+ *                      over the classes
+ *   class network:     max flow between applicant classes and job classes
+ *                      (jobs reached by the same applicant classes), only when
+ *                      each side has at most 1 / CLASS_SHARE as many classes as
+ *                      vertices, so it stays much smaller than the real network
+ *
+ * Applicants are grouped by the contents of their rows, not the row objects,
+ * so Eligibility.fromMatrix (one row per applicant) groups the same way as
+ * the shared rows of EligibilityIndex.
+ */
+class MatchingBound {
+    private static final int CLASS_SHARE = 16; // class network only with at most 1/16 as many classes as vertices
+
+    final int value;
+    final String name;
+
+    private MatchingBound(int value, String name) {
+        this.value = value;
+        this.name = name;
+    }
+
+    static MatchingBound of(Eligibility eligibility) {
+        int applicants = eligibility.applicants;
+        int jobs = eligibility.jobs;
+        MatchingBound best = new MatchingBound(Math.min(applicants, jobs), "min(applicants, jobs)");
+
+        // Applicant classes: equal rows, usually one shared row object per degree, so look up the object first
+        Map<int[], Integer> sharedClass = new IdentityHashMap<>();
+        Map<Row, Integer> classOf = new HashMap<>();
+        int[] classSize = new int[Math.max(applicants, 1)];
+        int[][] classRow = new int[Math.max(applicants, 1)][];
+        int eligibleApplicants = 0;
+        boolean[] reached = new boolean[jobs];
+        for (int u = 0; u < applicants; u++) {
+            int[] row = eligibility.jobsOf[u];
+            Integer c = sharedClass.get(row);
+            if (c == null) {
+                Row key = new Row(row);
+                c = classOf.get(key);
+                if (c == null) {
+                    c = classOf.size();
+                    classOf.put(key, c);
+                    classRow[c] = row;
+                    for (int v : row) {
+                        reached[v] = true;
+                    }
+                }
+                sharedClass.put(row, c);
+            }
+            classSize[c]++;
+            if (row.length > 0) {
+                eligibleApplicants++;
+            }
+        }
+        int classes = classOf.size();
+        int eligibleJobs = 0;
+        for (boolean r : reached) {
+            if (r) {
+                eligibleJobs++;
+            }
+        }
+        best = tighter(best, Math.min(eligibleApplicants, eligibleJobs), "eligible vertices");
+
+        long classBound = 0;
+        for (int c = 0; c < classes; c++) {
+            classBound += Math.min(classSize[c], classRow[c].length);
+        }
+        best = tighter(best, (int) Math.min(classBound, Integer.MAX_VALUE), "degree classes");
+
+        if ((long) classes * CLASS_SHARE <= applicants) {
+            int exact = classNetwork(classes, classSize, classRow, reached);
+            if (exact >= 0) {
+                best = tighter(best, exact, "class network");
+            }
+        }
+        return best;
+    }
+
+    // Row compared by contents, for grouping applicants with equal rows
+    private static final class Row {
+        final int[] jobs;
+        final int hash;
+
+        Row(int[] jobs) {
+            this.jobs = jobs;
+            this.hash = Arrays.hashCode(jobs);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Row && Arrays.equals(jobs, ((Row) other).jobs);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static MatchingBound tighter(MatchingBound best, int value, String name) {
+        return value < best.value ? new MatchingBound(value, name) : best;
+    }
+
+    /**
+     * Max flow of source -> applicant class -> job class -> sink, or -1 if
+     * there are more than 1 / CLASS_SHARE as many job classes as jobs. Jobs are grouped by an order-free hash
+     * of the applicant classes that reach them; a collision only merges two
+     * job classes, which can make the flow larger but never smaller, so the
+     * result stays an upper bound.
+     */
+    private static int classNetwork(int classes, int[] classSize, int[][] classRow, boolean[] reached) {
+        int jobs = reached.length;
+        SplittableRandom random = new SplittableRandom(classes);
+        long[] signature = new long[jobs];
+        for (int c = 0; c < classes; c++) {
+            long mark = random.nextLong();
+            for (int v : classRow[c]) {
+                signature[v] += mark;
+            }
+        }
+
+        Map<Long, Integer> jobClassOf = new HashMap<>();
+        int[] jobClass = new int[jobs];
+        int jobClassLimit = jobs / CLASS_SHARE;
+        int[] jobClassSize = new int[jobClassLimit];
+        for (int v = 0; v < jobs; v++) {
+            if (!reached[v]) {
+                jobClass[v] = -1; // no applicant reaches it
+                continue;
+            }
+            Integer q = jobClassOf.get(signature[v]);
+            if (q == null) {
+                if (jobClassOf.size() == jobClassLimit) {
+                    return -1;
+                }
+                q = jobClassOf.size();
+                jobClassOf.put(signature[v], q);
+            }
+            jobClass[v] = q;
+            jobClassSize[q]++;
+        }
+        int jobClasses = jobClassOf.size();
+
+        int source = 0;
+        int sink = classes + jobClasses + 1;
+        FlowNetwork network = new FlowNetwork(classes + jobClasses + 2);
+        for (int c = 0; c < classes; c++) {
+            network.addEdge(source, c + 1, classSize[c]);
+        }
+        for (int q = 0; q < jobClasses; q++) {
+            network.addEdge(classes + q + 1, sink, jobClassSize[q]);
+        }
+        boolean[] linked = new boolean[jobClasses];
+        for (int c = 0; c < classes; c++) {
+            Arrays.fill(linked, false);
+            for (int v : classRow[c]) {
+                int q = jobClass[v];
+                if (!linked[q]) {
+                    linked[q] = true;
+                    network.addEdge(c + 1, classes + q + 1, Math.min(classSize[c], jobClassSize[q]));
+                }
+            }
+        }
+        return new DinicJobMatching(network.vertices).maxFlow(network, source, sink);
+    }
+
+    // Whether the flow reached this bound, which makes it a maximum flow
+    String describe(int flow) {
+        return flow >= value
+                ? "Flow reached the " + name + " upper bound (" + value + ")"
+                : "Upper bound " + value + " (" + name + ") not reached";
+    }
+}
@@ -1,52 +1,45 @@
-import java.util.*;
+import CS5800_Project.FlowNetwork;
+import CS5800_Project.LongFlowNetwork;
+import CS5800_Project.MinCut;
+import CS5800_Project.PushRelabel;
+import CS5800_Project.WorkloadGenerator;
 
-class Edge {
-    int to, capacity, flow;
-    Edge reverse;
+import java.io.IOException;
+import java.nio.file.Paths;
 
-    public Edge(int to, int capacity) {
-        this.to = to;
-        this.capacity = capacity;
-    }
-}
+import java.util.*;
 
+// Thin wrapper so the algorithms below keep their Graph signatures; edges live in the shared FlowNetwork arrays
 class Graph {
-    List<List<Edge>> adj;
+    FlowNetwork net;
     int V;
 
     public Graph(int V) {
         this.V = V;
-        adj = new ArrayList<>(V);
-        for (int i = 0; i < V; i++) {
-            adj.add(new ArrayList<>());
-        }
+        net = new FlowNetwork(V);
     }
 
     public void addEdge(int from, int to, int capacity) {
-        Edge e1 = new Edge(to, capacity);
-        Edge e2 = new Edge(from, 0);
-        e1.reverse = e2;
-        e2.reverse = e1;
-        adj.get(from).add(e1);
-        adj.get(to).add(e2);
+        net.addEdge(from, to, capacity);
     }
 }
 
 class FordFulkerson {
-    static boolean bfs(Graph graph, int s, int t, int[] parent) {
+    static boolean bfs(Graph graph, int s, int t, int[] parentEdge) {
+        FlowNetwork net = graph.net;
         boolean[] visited = new boolean[graph.V];
         Queue<Integer> queue = new LinkedList<>();
         queue.add(s);
         visited[s] = true;
-        parent[s] = -1;
+        parentEdge[s] = -1;
 
         while (!queue.isEmpty()) {
             int u = queue.poll();
-            for (Edge e : graph.adj.get(u)) {
-                if (!visited[e.to] && e.capacity > e.flow) {
-                    queue.add(e.to);
-                    parent[e.to] = u;
-                    visited[e.to] = true;
+            for (int e = net.head[u]; e != -1; e = net.next[e]) {
+                if (!visited[net.to[e]] && net.cap[e] > 0) {
+                    queue.add(net.to[e]);
+                    parentEdge[net.to[e]] = e;
+                    visited[net.to[e]] = true;
                 }
             }
         }
@@ -55,30 +48,20 @@ class FordFulkerson {
     }
 
     static int fordFulkerson(Graph graph, int s, int t) {
-        int[] parent = new int[graph.V];
+        FlowNetwork net = graph.net;
+        int[] parentEdge = new int[graph.V];
         int maxFlow = 0;
 
-        while (bfs(graph, s, t, parent)) {
+        while (bfs(graph, s, t, parentEdge)) {
             int pathFlow = Integer.MAX_VALUE;
-            for (int v = t; v != s; v = parent[v]) {
-                int u = parent[v];
-                for (Edge e : graph.adj.get(u)) {
-                    if (e.to == v) {
-                        pathFlow = Math.min(pathFlow, e.capacity - e.flow);
-                        break;
-                    }
-                }
+            for (int v = t; v != s; v = net.from(parentEdge[v])) {
+                pathFlow = Math.min(pathFlow, net.cap[parentEdge[v]]);
             }
 
-            for (int v = t; v != s; v = parent[v]) {
-                int u = parent[v];
-                for (Edge e : graph.adj.get(u)) {
-                    if (e.to == v) {
-                        e.flow += pathFlow;
-                        e.reverse.flow -= pathFlow;
-                        break;
-                    }
-                }
+            for (int v = t; v != s; v = net.from(parentEdge[v])) {
+                int e = parentEdge[v];
+                net.cap[e] -= pathFlow;
+                net.cap[e ^ 1] += pathFlow;
             }
 
             maxFlow += pathFlow;
@@ -89,20 +72,21 @@ class FordFulkerson {
 }
 
 class EdmondsKarp {
-    static boolean bfs(Graph graph, int s, int t, int[] parent) {
+    static boolean bfs(Graph graph, int s, int t, int[] parentEdge) {
+        FlowNetwork net = graph.net;
         boolean[] visited = new boolean[graph.V];
         Queue<Integer> queue = new LinkedList<>();
         queue.add(s);
         visited[s] = true;
-        parent[s] = -1;
+        parentEdge[s] = -1;
 
         while (!queue.isEmpty()) {
             int u = queue.poll();
-            for (Edge e : graph.adj.get(u)) {
-                if (!visited[e.to] && e.capacity > e.flow) {
-                    queue.add(e.to);
-                    parent[e.to] = u;
-                    visited[e.to] = true;
+            for (int e = net.head[u]; e != -1; e = net.next[e]) {
+                if (!visited[net.to[e]] && net.cap[e] > 0) {
+                    queue.add(net.to[e]);
+                    parentEdge[net.to[e]] = e;
+                    visited[net.to[e]] = true;
                 }
             }
         }
@@ -111,30 +95,20 @@ class EdmondsKarp {
     }
 
     static int edmondsKarp(Graph graph, int s, int t) {
-        int[] parent = new int[graph.V];
+        FlowNetwork net = graph.net;
+        int[] parentEdge = new int[graph.V];
         int maxFlow = 0;
 
-        while (bfs(graph, s, t, parent)) {
+        while (bfs(graph, s, t, parentEdge)) {
             int pathFlow = Integer.MAX_VALUE;
-            for (int v = t; v != s; v = parent[v]) {
-                int u = parent[v];
-                for (Edge e : graph.adj.get(u)) {
-                    if (e.to == v) {
-                        pathFlow = Math.min(pathFlow, e.capacity - e.flow);
-                        break;
-                    }
-                }
+            for (int v = t; v != s; v = net.from(parentEdge[v])) {
+                pathFlow = Math.min(pathFlow, net.cap[parentEdge[v]]);
             }
 
-            for (int v = t; v != s; v = parent[v]) {
-                int u = parent[v];
-                for (Edge e : graph.adj.get(u)) {
-                    if (e.to == v) {
-                        e.flow += pathFlow;
-                        e.reverse.flow -= pathFlow;
-                        break;
-                    }
-                }
+            for (int v = t; v != s; v = net.from(parentEdge[v])) {
+                int e = parentEdge[v];
+                net.cap[e] -= pathFlow;
+                net.cap[e ^ 1] += pathFlow;
             }
 
             maxFlow += pathFlow;
@@ -146,6 +120,7 @@ class EdmondsKarp {
 
 class Dinic {
     static boolean bfs(Graph graph, int s, int t, int[] level) {
+        FlowNetwork net = graph.net;
         Arrays.fill(level, -1);
         level[s] = 0;
         Queue<Integer> queue = new LinkedList<>();
@@ -153,10 +128,10 @@ class Dinic {
 
         while (!queue.isEmpty()) {
             int u = queue.poll();
-            for (Edge e : graph.adj.get(u)) {
-                if (level[e.to] < 0 && e.capacity > e.flow) {
-                    level[e.to] = level[u] + 1;
-                    queue.add(e.to);
+            for (int e = net.head[u]; e != -1; e = net.next[e]) {
+                if (level[net.to[e]] < 0 && net.cap[e] > 0) {
+                    level[net.to[e]] = level[u] + 1;
+                    queue.add(net.to[e]);
                 }
             }
         }
@@ -167,16 +142,17 @@ class Dinic {
     static int dfs(Graph graph, int[] level, int[] start, int u, int t, int flow) {
         if (u == t) return flow;
 
-        for (; start[u] < graph.adj.get(u).size(); start[u]++) {
-            Edge e = graph.adj.get(u).get(start[u]);
+        FlowNetwork net = graph.net;
+        for (; start[u] != -1; start[u] = net.next[start[u]]) {
+            int e = start[u];
 
-            if (level[e.to] == level[u] + 1 && e.capacity > e.flow) {
-                int currFlow = Math.min(flow, e.capacity - e.flow);
-                int tempFlow = dfs(graph, level, start, e.to, t, currFlow);
+            if (level[net.to[e]] == level[u] + 1 && net.cap[e] > 0) {
+                int currFlow = Math.min(flow, net.cap[e]);
+                int tempFlow = dfs(graph, level, start, net.to[e], t, currFlow);
 
                 if (tempFlow > 0) {
-                    e.flow += tempFlow;
-                    e.reverse.flow -= tempFlow;
+                    net.cap[e] -= tempFlow;
+                    net.cap[e ^ 1] += tempFlow;
                     return tempFlow;
                 }
             }
@@ -190,7 +166,7 @@ class Dinic {
         int[] level = new int[graph.V];
 
         while (bfs(graph, s, t, level)) {
-            int[] start = new int[graph.V];
+            int[] start = Arrays.copyOf(graph.net.head, graph.V);
             while (true) {
                 int flow = dfs(graph, level, start, s, t, Integer.MAX_VALUE);
                 if (flow == 0) break;
@@ -202,49 +178,346 @@ class Dinic {
     }
 }
 
+// Same wrapper over LongFlowNetwork, for capacities and flows beyond the int range
+class LongGraph {
+    LongFlowNetwork net;
+    int V;
+
+    public LongGraph(int V) {
+        this.V = V;
+        net = new LongFlowNetwork(V);
+    }
+
+    public void addEdge(int from, int to, long capacity) {
+        net.addEdge(from, to, capacity);
+    }
+
+    // Largest power of two not above the largest capacity, where the scaling phases start
+    long startDelta() {
+        long largest = 1;
+        for (int e = 0; e < net.edges; e++) {
+            largest = Math.max(largest, net.cap[e]);
+        }
+        return Long.highestOneBit(largest);
+    }
+
+    void augment(int[] parentEdge, int s, int t, long pathFlow) {
+        for (int v = t; v != s; v = net.from(parentEdge[v])) {
+            int e = parentEdge[v];
+            net.cap[e] -= pathFlow;
+            net.cap[e ^ 1] += pathFlow;
+        }
+    }
+
+    long bottleneck(int[] parentEdge, int s, int t) {
+        long pathFlow = Long.MAX_VALUE;
+        for (int v = t; v != s; v = net.from(parentEdge[v])) {
+            pathFlow = Math.min(pathFlow, net.cap[parentEdge[v]]);
+        }
+        return pathFlow;
+    }
+}
+
+/*
+ * Delta-scaling versions of the three algorithms on long capacities. Each
+ * phase only uses residual edges with at least delta capacity, starting from
+ * the largest power of two not above the largest capacity and halving it
+ * until 1, so high-capacity pipes saturate in the first few phases and a
+ * phase needs at most 2E augmentations. Flows are summed in a long.
+ */
+class ScalingFordFulkerson {
+    // Any path (depth-first) over edges with residual capacity >= delta
+    static boolean dfs(LongGraph graph, int s, int t, long delta, int[] parentEdge, boolean[] visited, int[] stack) {
+        LongFlowNetwork net = graph.net;
+        Arrays.fill(visited, false);
+        int top = 0;
+        stack[top++] = s;
+        visited[s] = true;
+        parentEdge[s] = -1;
+
+        while (top > 0) {
+            int u = stack[--top];
+            for (int e = net.head[u]; e != -1; e = net.next[e]) {
+                int v = net.to[e];
+                if (!visited[v] && net.cap[e] >= delta) {
+                    parentEdge[v] = e;
+                    if (v == t) {
+                        return true;
+                    }
+                    visited[v] = true;
+                    stack[top++] = v;
+                }
+            }
+        }
+        return false;
+    }
+
+    static long fordFulkerson(LongGraph graph, int s, int t) {
+        int[] parentEdge = new int[graph.V];
+        boolean[] visited = new boolean[graph.V];
+        int[] stack = new int[graph.V];
+        long maxFlow = 0;
+
+        for (long delta = graph.startDelta(); delta >= 1; delta >>>= 1) {
+            while (dfs(graph, s, t, delta, parentEdge, visited, stack)) {
+                long pathFlow = graph.bottleneck(parentEdge, s, t);
+                graph.augment(parentEdge, s, t, pathFlow);
+                maxFlow += pathFlow;
+            }
+        }
+
+        return maxFlow;
+    }
+}
+
+class ScalingEdmondsKarp {
+    // Shortest path over edges with residual capacity >= delta
+    static boolean bfs(LongGraph graph, int s, int t, long delta, int[] parentEdge, int[] queue) {
+        LongFlowNetwork net = graph.net;
+        Arrays.fill(parentEdge, -2);
+        parentEdge[s] = -1;
+        int head = 0, tail = 0;
+        queue[tail++] = s;
+
+        while (head < tail) {
+            int u = queue[head++];
+            for (int e = net.head[u]; e != -1; e = net.next[e]) {
+                int v = net.to[e];
+                if (parentEdge[v] == -2 && net.cap[e] >= delta) {
+                    parentEdge[v] = e;
+                    if (v == t) {
+                        return true;
+                    }
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return false;
+    }
+
+    static long edmondsKarp(LongGraph graph, int s, int t) {
+        int[] parentEdge = new int[graph.V];
+        int[] queue = new int[graph.V];
+        long maxFlow = 0;
+
+        for (long delta = graph.startDelta(); delta >= 1; delta >>>= 1) {
+            while (bfs(graph, s, t, delta, parentEdge, queue)) {
+                long pathFlow = graph.bottleneck(parentEdge, s, t);
+                graph.augment(parentEdge, s, t, pathFlow);
+                maxFlow += pathFlow;
+            }
+        }
+
+        return maxFlow;
+    }
+}
+
+class ScalingDinic {
+    static boolean bfs(LongGraph graph, int s, int t, long delta, int[] level, int[] queue) {
+        LongFlowNetwork net = graph.net;
+        Arrays.fill(level, -1);
+        level[s] = 0;
+        int head = 0, tail = 0;
+        queue[tail++] = s;
+
+        while (head < tail) {
+            int u = queue[head++];
+            for (int e = net.head[u]; e != -1; e = net.next[e]) {
+                if (level[net.to[e]] < 0 && net.cap[e] >= delta) {
+                    level[net.to[e]] = level[u] + 1;
+                    queue[tail++] = net.to[e];
+                }
+            }
+        }
+
+        return level[t] >= 0;
+    }
+
+    // Blocking flow of the delta level graph, iterative current-arc DFS
+    static long blockingFlow(LongGraph graph, int s, int t, long delta, int[] level, int[] start, int[] stack, int[] pathEdge) {
+        LongFlowNetwork net = graph.net;
+        long total = 0;
+        int depth = 0;
+        stack[0] = s;
+
+        while (true) {
+            int u = stack[depth];
+            if (u == t) {
+                long flow = Long.MAX_VALUE;
+                for (int k = 0; k < depth; k++) {
+                    flow = Math.min(flow, net.cap[pathEdge[k]]);
+                }
+                int retreat = depth;
+                for (int k = 0; k < depth; k++) {
+                    int e = pathEdge[k];
+                    net.cap[e] -= flow;
+                    net.cap[e ^ 1] += flow;
+                    if (net.cap[e] < delta && retreat == depth) {
+                        retreat = k;
+                    }
+                }
+                total += flow;
+                depth = retreat;
+                continue;
+            }
+
+            int e = start[u];
+            while (e != -1 && !(net.cap[e] >= delta && level[net.to[e]] == level[u] + 1)) {
+                e = net.next[e];
+            }
+            start[u] = e;
+
+            if (e == -1) {
+                if (depth == 0) {
+                    return total;
+                }
+                level[u] = -1;
+                depth--;
+                start[stack[depth]] = net.next[start[stack[depth]]];
+                continue;
+            }
+
+            pathEdge[depth] = e;
+            stack[++depth] = net.to[e];
+        }
+    }
+
+    static long dinic(LongGraph graph, int s, int t) {
+        int[] level = new int[graph.V];
+        int[] queue = new int[graph.V];
+        int[] stack = new int[graph.V];
+        int[] pathEdge = new int[graph.V];
+        long maxFlow = 0;
+
+        for (long delta = graph.startDelta(); delta >= 1; delta >>>= 1) {
+            while (bfs(graph, s, t, delta, level, queue)) {
+                int[] start = Arrays.copyOf(graph.net.head, graph.V);
+                maxFlow += blockingFlow(graph, s, t, delta, level, start, stack, pathEdge);
+            }
+        }
+
+        return maxFlow;
+    }
+}
+
 public class MaxFlowComparison {
+    static String networkFile; // DIMACS file from WorkloadGenerator, the 6-vertex example if null
+    static int source = 0, sink = 5;
+
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--benchmark")) {
+            benchmark(args);
+            return;
+        }
         int V = 6;
         Graph graph;
+        if (args.length > 0) {
+            networkFile = args[0];
+        }
 
         System.out.println("-----------------------------------------------");
         System.out.println("Water Distribution Network Maximum Flow Problem");
         System.out.println("-----------------------------------------------");
 
-        // Ford-Fulkerson
-        graph = createGraph(V);
-        long startTime = System.nanoTime();
-        int maxFlow = FordFulkerson.fordFulkerson(graph, 0, 5);
-        long endTime = System.nanoTime();
-        System.out.println("Ford-Fulkerson Algorithm:");
-        System.out.println("Maximum flow: " + maxFlow);
+        long startTime, endTime;
+        LongGraph longGraph = createLongGraph(V);
+        if (fitsInInt(longGraph, source)) {
+            // Ford-Fulkerson
+            graph = createGraph(V);
+            startTime = System.nanoTime();
+            int maxFlow = FordFulkerson.fordFulkerson(graph, source, sink);
+            endTime = System.nanoTime();
+            System.out.println("Ford-Fulkerson Algorithm:");
+            System.out.println("Maximum flow: " + maxFlow);
+            System.out.println("Time taken: " + (endTime - startTime) / 1e6 + " ms");
+            System.out.println("Space complexity: O(V + E)");
+            System.out.println();
+
+            // Edmonds-Karp
+            graph = createGraph(V);
+            startTime = System.nanoTime();
+            maxFlow = EdmondsKarp.edmondsKarp(graph, source, sink);
+            endTime = System.nanoTime();
+            System.out.println("Edmonds-Karp Algorithm:");
+            System.out.println("Maximum flow: " + maxFlow);
+            System.out.println("Time taken: " + (endTime - startTime) / 1e6 + " ms");
+            System.out.println("Space complexity: O(V + E)");
+            System.out.println();
+
+            // Dinic's
+            graph = createGraph(V);
+            startTime = System.nanoTime();
+            maxFlow = Dinic.dinic(graph, source, sink);
+            endTime = System.nanoTime();
+            System.out.println("Dinic's Algorithm:");
+            System.out.println("Maximum flow: " + maxFlow);
+            System.out.println("Time taken: " + (endTime - startTime) / 1e6 + " ms");
+            System.out.println("Space complexity: O(V + E)");
+            System.out.println();
+
+            // Push-Relabel
+            graph = createGraph(V);
+            startTime = System.nanoTime();
+            maxFlow = new PushRelabel(graph.net).maxFlow(source, sink);
+            endTime = System.nanoTime();
+            System.out.println("Push-Relabel Algorithm:");
+            System.out.println("Maximum flow: " + maxFlow);
+            System.out.println("Time taken: " + (endTime - startTime) / 1e6 + " ms");
+            System.out.println("Space complexity: O(V + E)");
+            System.out.println();
+        } else {
+            System.out.println("Capacities or total flow exceed the int range, int versions skipped");
+            System.out.println();
+        }
+
+        // Delta-scaling versions on long capacities
+        startTime = System.nanoTime();
+        long longFlow = ScalingFordFulkerson.fordFulkerson(longGraph, source, sink);
+        endTime = System.nanoTime();
+        System.out.println("Scaling Ford-Fulkerson Algorithm (long capacities):");
+        System.out.println("Maximum flow: " + longFlow);
         System.out.println("Time taken: " + (endTime - startTime) / 1e6 + " ms");
-        System.out.println("Space complexity: O(V + E)");
         System.out.println();
 
-        // Edmonds-Karp
-        graph = createGraph(V);
+        longGraph = createLongGraph(V);
         startTime = System.nanoTime();
-        maxFlow = EdmondsKarp.edmondsKarp(graph, 0, 5);
+        longFlow = ScalingEdmondsKarp.edmondsKarp(longGraph, source, sink);
         endTime = System.nanoTime();
-        System.out.println("Edmonds-Karp Algorithm:");
-        System.out.println("Maximum flow: " + maxFlow);
+        System.out.println("Scaling Edmonds-Karp Algorithm (long capacities):");
+        System.out.println("Maximum flow: " + longFlow);
         System.out.println("Time taken: " + (endTime - startTime) / 1e6 + " ms");
-        System.out.println("Space complexity: O(V + E)");
         System.out.println();
 
-        // Dinic's
-        graph = createGraph(V);
+        longGraph = createLongGraph(V);
         startTime = System.nanoTime();
-        maxFlow = Dinic.dinic(graph, 0, 5);
+        longFlow = ScalingDinic.dinic(longGraph, source, sink);
         endTime = System.nanoTime();
-        System.out.println("Dinic's Algorithm:");
-        System.out.println("Maximum flow: " + maxFlow);
+        System.out.println("Scaling Dinic's Algorithm (long capacities):");
+        System.out.println("Maximum flow: " + longFlow);
         System.out.println("Time taken: " + (endTime - startTime) / 1e6 + " ms");
-        System.out.println("Space complexity: O(V + E)");
+        System.out.println();
+
+        // The min cut comes from the residual graph Scaling Dinic left behind, no extra solve
+        printMinCut(longGraph, source, 20);
+    }
+
+    // Cut capacity, source side size and up to limit cut edges of a solved graph
+    static void printMinCut(LongGraph graph, int source, int limit) {
+        MinCut cut = MinCut.of(graph.net, source);
+        System.out.println("Minimum cut: " + cut.capacity + ", " + cut.sourceSideSize() + " of " + graph.V + " vertices on the source side");
+        for (int k = 0; k < Math.min(limit, cut.cutEdges.length); k++) {
+            int e = cut.cutEdges[k];
+            System.out.println("  " + graph.net.from(e) + " -> " + graph.net.to[e] + " (" + graph.net.flow(e) + ")");
+        }
+        if (cut.cutEdges.length > limit) {
+            System.out.println("  ... " + (cut.cutEdges.length - limit) + " more cut edges");
+        }
     }
 
     static Graph createGraph(int V) {
+        if (networkFile != null) {
+            return loadGraph(networkFile);
+        }
         Graph graph = new Graph(V);
         
         graph.addEdge(0, 1, 10);
@@ -258,4 +531,120 @@ public class MaxFlowComparison {
         graph.addEdge(4, 5, 10);
         return graph;
     }
+
+    // The example network or the file, with long capacities
+    static LongGraph createLongGraph(int V) {
+        if (networkFile != null) {
+            int[] terminals = new int[2];
+            try {
+                LongGraph graph = new LongGraph(0);
+                graph.net = WorkloadGenerator.readLongNetwork(Paths.get(networkFile), terminals);
+                graph.V = graph.net.vertices;
+                source = terminals[0];
+                sink = terminals[1];
+                return graph;
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Cannot read network " + networkFile, e);
+            }
+        }
+        Graph example = createGraph(V);
+        LongGraph graph = new LongGraph(V);
+        for (int e = 0; e < example.net.edges; e += 2) {
+            graph.addEdge(example.net.from(e), example.net.to[e], example.net.cap[e]);
+        }
+        return graph;
+    }
+
+    // Whether the int versions can run: every capacity and the total leaving the source fit in an int
+    static boolean fitsInInt(LongGraph graph, int s) {
+        long sourceTotal = 0;
+        for (int e = 0; e < graph.net.edges; e++) {
+            if (graph.net.cap[e] > Integer.MAX_VALUE) {
+                return false;
+            }
+        }
+        for (int e = graph.net.head[s]; e != -1; e = graph.net.next[e]) {
+            sourceTotal += graph.net.cap[e];
+        }
+        return sourceTotal <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * --benchmark <vertices> <density> [--max-capacity C] [--seed N]
+     *
+     * Generates one network per capacity distribution with WorkloadGenerator
+     * and times the int versions against the delta-scaling long versions on
+     * identical copies. An int result that differs from the long one has
+     * overflowed.
+     */
+    static void benchmark(String[] args) {
+        int vertices = Integer.parseInt(args[1]);
+        int density = Integer.parseInt(args[2]);
+        List<String> options = Arrays.asList(args);
+        int i = options.indexOf("--max-capacity");
+        long maxCapacity = i >= 0 ? Long.parseLong(args[i + 1]) : 1_000_000_000L;
+        i = options.indexOf("--seed");
+        long seed = i >= 0 ? Long.parseLong(args[i + 1]) : 5800;
+
+        WorkloadGenerator generator = new WorkloadGenerator(seed);
+        generator.setMaxCapacity(maxCapacity);
+        int s = 0, t = vertices - 1;
+        System.out.printf("%-13s %-24s %22s %12s%n", "capacities", "algorithm", "max flow", "ms");
+        for (WorkloadGenerator.CapacityDistribution capacities : WorkloadGenerator.CapacityDistribution.values()) {
+            if (capacities == WorkloadGenerator.CapacityDistribution.UNIT) {
+                continue;
+            }
+            LongGraph reference = new LongGraph(0);
+            reference.net = generator.longNetwork(vertices, density, capacities);
+            reference.V = vertices;
+            boolean intCapacities = Arrays.stream(reference.net.cap).allMatch(c -> c <= Integer.MAX_VALUE);
+
+            long[] longFlows = new long[3];
+            String[] longNames = {"Scaling Ford-Fulkerson", "Scaling Edmonds-Karp", "Scaling Dinic"};
+            for (int k = 0; k < 3; k++) {
+                LongGraph graph = new LongGraph(0);
+                graph.net = generator.longNetwork(vertices, density, capacities);
+                graph.V = vertices;
+                long startTime = System.nanoTime();
+                longFlows[k] = k == 0 ? ScalingFordFulkerson.fordFulkerson(graph, s, t)
+                        : k == 1 ? ScalingEdmondsKarp.edmondsKarp(graph, s, t)
+                        : ScalingDinic.dinic(graph, s, t);
+                long endTime = System.nanoTime();
+                System.out.printf("%-13s %-24s %22d %12.1f%n", capacities, longNames[k], longFlows[k], (endTime - startTime) / 1e6);
+            }
+
+            if (!intCapacities) {
+                System.out.printf("%-13s %-24s %22s%n", capacities, "int versions", "capacities exceed int");
+                continue;
+            }
+            String[] intNames = {"Ford-Fulkerson", "Edmonds-Karp", "Dinic"};
+            for (int k = 0; k < 3; k++) {
+                Graph graph = new Graph(0);
+                graph.net = generator.network(vertices, density, capacities);
+                graph.V = vertices;
+                long startTime = System.nanoTime();
+                int flow = k == 0 ? FordFulkerson.fordFulkerson(graph, s, t)
+                        : k == 1 ? EdmondsKarp.edmondsKarp(graph, s, t)
+                        : Dinic.dinic(graph, s, t);
+                long endTime = System.nanoTime();
+                System.out.printf("%-13s %-24s %22d %12.1f%s%n", capacities, intNames[k], flow, (endTime - startTime) / 1e6,
+                        flow == longFlows[2] ? "" : "  overflowed");
+            }
+        }
+    }
+
+    // Fresh copy of the network in the file, every algorithm needs its own residual capacities
+    static Graph loadGraph(String file) {
+        int[] terminals = new int[2];
+        try {
+            Graph graph = new Graph(0);
+            graph.net = WorkloadGenerator.readNetwork(Paths.get(file), terminals);
+            graph.V = graph.net.vertices;
+            source = terminals[0];
+            sink = terminals[1];
+            return graph;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot read network " + file, e);
+        }
+    }
 }
@@ -0,0 +1,28 @@
+package CS5800_Project;
+
+/**
+ * A max-flow algorithm that runs on a FlowNetwork.
+ *
+ * maxFlow returns the value of a maximum flow from source to sink and leaves
+ * the flow in network.cap, so the caller can read the matching (or the cut)
+ * back from the residual capacities. Implementations may keep work arrays
+ * between calls and are not thread-safe; use one instance per thread.
+ */
+public interface MaxFlowSolver {
+    int maxFlow(FlowNetwork network, int source, int sink);
+
+    // Counters of the last run, see SolverStats; solvers without instrumentation report an empty set
+    default SolverStats getStats() {
+        return new SolverStats();
+    }
+
+    /**
+     * Upper bound on the flow of the next maxFlow calls, e.g. from
+     * MatchingBound. Solvers that support it stop as soon as their flow
+     * reaches it instead of running one more search that finds nothing;
+     * the others ignore it. A limit below the true maximum leaves a
+     * flow that is not maximum.
+     */
+    default void setFlowLimit(int flowLimit) {
+    }
+}
@@ -0,0 +1,247 @@
+package CS5800_Project;
+
+import java.util.Arrays;
+
+/**
+ * Min-cost max-flow on a FlowNetwork, edge costs in a parallel int[] indexed
+ * like network.cap (cost[e ^ 1] must be -cost[e]).
+ *
+ * Successive shortest paths with Johnson potentials: each phase runs one
+ * Dijkstra on reduced costs (an indexed binary heap over int arrays, no
+ * boxing, stopped once the sink is settled), shifts the potentials so every
+ * shortest path has reduced cost 0, and then runs Dinic on the edges of
+ * reduced cost 0 until the sink is cut off from them. One phase therefore
+ * augments along every shortest path of the same cost, not just one, which
+ * keeps the number of Dijkstra runs small when costs are small integers,
+ * and the BFS levels keep the DFS from wandering along zero-cost cycles.
+ * Forward costs must be non-negative, so the potentials can start at 0.
+ */
+class MinCostFlow {
+    private static final long INF = Long.MAX_VALUE / 4;
+
+    private final FlowNetwork network;
+    private final int[] cost;
+    private final int n;
+
+    private final long[] potential;
+    private final long[] dist;
+
+    // Indexed binary heap keyed by dist: heap holds vertices, position[v] is v's slot or -1
+    private final int[] heap;
+    private final int[] position;
+    private int heapSize;
+
+    // Dinic state on the reduced-cost-0 subgraph
+    private final int[] level;
+    private final int[] queue;
+    private final int[] it;
+    private final int[] stack;
+    private final int[] pathEdge;
+
+    private long totalCost;
+
+    MinCostFlow(FlowNetwork network, int[] cost) {
+        this.network = network;
+        this.cost = cost;
+        n = network.vertices;
+        potential = new long[n];
+        dist = new long[n];
+        heap = new int[n];
+        position = new int[n];
+        level = new int[n];
+        queue = new int[n];
+        it = new int[n];
+        stack = new int[n];
+        pathEdge = new int[n];
+        for (int e = 0; e < network.edges; e += 2) {
+            if (cost[e] < 0 || cost[e ^ 1] != -cost[e]) {
+                throw new IllegalArgumentException("Edge " + e + " needs cost >= 0 and reverse cost -cost, got " + cost[e] + " / " + cost[e ^ 1]);
+            }
+        }
+    }
+
+    // Maximum flow from source to sink of least total cost, the flow is left in network.cap
+    int maxFlow(int source, int sink) {
+        int totalFlow = 0;
+        totalCost = 0;
+        while (dijkstra(source, sink)) {
+            long reach = dist[sink];
+            for (int v = 0; v < n; v++) {
+                potential[v] += Math.min(dist[v], reach);
+            }
+
+            while (levels(source, sink)) {
+                System.arraycopy(network.head, 0, it, 0, n);
+                totalFlow += blockingFlow(source, sink);
+            }
+        }
+        return totalFlow;
+    }
+
+    long totalCost() {
+        return totalCost;
+    }
+
+    private long reducedCost(int e, int u, int v) {
+        return cost[e] + potential[u] - potential[v];
+    }
+
+    private boolean dijkstra(int source, int sink) {
+        Arrays.fill(dist, INF);
+        Arrays.fill(position, -1);
+        heapSize = 0;
+        dist[source] = 0;
+        push(source);
+
+        while (heapSize > 0) {
+            int u = pop();
+            if (u == sink) {
+                break; // everything closer is settled, the rest is at least dist[sink]
+            }
+            for (int e = network.head[u]; e != -1; e = network.next[e]) {
+                if (network.cap[e] > 0) {
+                    int v = network.to[e];
+                    long candidate = dist[u] + reducedCost(e, u, v);
+                    if (candidate < dist[v]) {
+                        dist[v] = candidate;
+                        if (position[v] < 0) {
+                            push(v);
+                        } else {
+                            siftUp(position[v]);
+                        }
+                    }
+                }
+            }
+        }
+        return dist[sink] < INF;
+    }
+
+    private boolean admissible(int e, int u) {
+        return network.cap[e] > 0 && reducedCost(e, u, network.to[e]) == 0;
+    }
+
+    // BFS levels over edges of reduced cost 0
+    private boolean levels(int source, int sink) {
+        Arrays.fill(level, -1);
+        level[source] = 0;
+        int head = 0, tail = 0;
+        queue[tail++] = source;
+        while (head < tail) {
+            int u = queue[head++];
+            if (level[sink] >= 0 && level[u] >= level[sink]) {
+                break; // vertices this far out cannot be on a shortest path to the sink
+            }
+            for (int e = network.head[u]; e != -1; e = network.next[e]) {
+                if (level[network.to[e]] < 0 && admissible(e, u)) {
+                    level[network.to[e]] = level[u] + 1;
+                    queue[tail++] = network.to[e];
+                }
+            }
+        }
+        return level[sink] >= 0;
+    }
+
+    // Same iterative current-arc DFS as DinicJobMatching, restricted to edges of reduced cost 0
+    private int blockingFlow(int source, int sink) {
+        int totalFlow = 0;
+        int depth = 0;
+        stack[0] = source;
+
+        while (true) {
+            int u = stack[depth];
+
+            if (u == sink) {
+                int flow = Integer.MAX_VALUE;
+                for (int k = 0; k < depth; k++) {
+                    flow = Math.min(flow, network.cap[pathEdge[k]]);
+                }
+                int retreat = depth;
+                for (int k = 0; k < depth; k++) {
+                    int e = pathEdge[k];
+                    network.cap[e] -= flow;
+                    network.cap[e ^ 1] += flow;
+                    totalCost += (long) flow * cost[e];
+                    if (network.cap[e] == 0 && retreat == depth) {
+                        retreat = k;
+                    }
+                }
+                totalFlow += flow;
+                depth = retreat;
+                continue;
+            }
+
+            int e = it[u];
+            while (e != -1 && !(level[network.to[e]] == level[u] + 1 && admissible(e, u))) {
+                e = network.next[e];
+            }
+            it[u] = e;
+
+            if (e == -1) {
+                if (depth == 0) {
+                    return totalFlow;
+                }
+                level[u] = -1; // dead end for the rest of this round
+                depth--;
+                it[stack[depth]] = network.next[it[stack[depth]]];
+                continue;
+            }
+
+            pathEdge[depth] = e;
+            stack[++depth] = network.to[e];
+        }
+    }
+
+    private void push(int v) {
+        heap[heapSize] = v;
+        position[v] = heapSize;
+        siftUp(heapSize++);
+    }
+
+    private int pop() {
+        int top = heap[0];
+        position[top] = -1;
+        heapSize--;
+        if (heapSize > 0) {
+            heap[0] = heap[heapSize];
+            position[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void siftUp(int i) {
+        int v = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (dist[heap[parent]] <= dist[v]) {
+                break;
+            }
+            heap[i] = heap[parent];
+            position[heap[i]] = i;
+            i = parent;
+        }
+        heap[i] = v;
+        position[v] = i;
+    }
+
+    private void siftDown(int i) {
+        int v = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && dist[heap[child + 1]] < dist[heap[child]]) {
+                child++;
+            }
+            if (dist[heap[child]] >= dist[v]) {
+                break;
+            }
+            heap[i] = heap[child];
+            position[heap[i]] = i;
+            i = child;
+        }
+        heap[i] = v;
+        position[v] = i;
+    }
+}
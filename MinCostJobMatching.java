@@ -0,0 +1,157 @@
+package CS5800_Project;
+import java.util.*;
+import java.io.IOException;
+
+import com.opencsv.exceptions.CsvException;
+
+import java.util.List;
+
+/**
+ * Maximum job matching that prefers better fitting pairs.
+ *
+ * Builds the same applicant/job network as the other *JobMatching classes,
+ * gives every applicant -> job edge a cost from a MatchScorer (by default
+ * exact degree matches before "any of MBA/BBA" matches) plus an optional job
+ * priority (the Priority column, see JobDataset), and solves it with
+ * MinCostFlow. The matching has the same size
+ * as the max-flow solvers find, and the least total cost among those.
+ */
+class MinCostJobMatching {
+    private MatchScorer scorer = MatchScorer.exactFirst();
+    private int[] jobPriority; // higher is preferred, null ranks all jobs the same
+    private long totalCost;    // cost of the last matching
+    private MatchWriter.Settings output = MatchWriter.Settings.DEFAULT; // format and echo of the result file
+
+    public void setScorer(MatchScorer scorer) {
+        this.scorer = scorer;
+    }
+
+    // Adds (highest priority - jobPriority[job]) to the cost of every edge into the job
+    public void setJobPriority(int[] jobPriority) {
+        this.jobPriority = jobPriority;
+    }
+
+    public long getTotalCost() {
+        return totalCost;
+    }
+
+    public int maxJobMatching(Eligibility eligibility, List<String> nameColumn, List<String> jobIdColumn, List<String> degree, List<String> qualification, String path) {
+        int applicants = eligibility.applicants;
+        int jobs = eligibility.jobs;
+
+        int source = 0;
+        int sink = applicants + jobs + 1;
+
+        FlowNetwork network = FlowNetwork.forJobMatching(eligibility);
+        MinCostFlow minCostFlow = new MinCostFlow(network, edgeCosts(network, applicants, degree, qualification));
+        int totalFlow = minCostFlow.maxFlow(source, sink);
+        totalCost = minCostFlow.totalCost();
+
+        // Hand the matched jobs to the background writer
+        try (MatchWriter writer = MatchWriter.open(path, "MinCost_output", output, nameColumn, degree, jobIdColumn, qualification)) {
+            for (int u = 1; u <= applicants; u++) {
+                for (int e = network.head[u]; e != -1; e = network.next[e]) {
+                    if (FlowNetwork.isForward(e) && network.flow(e) > 0) {
+                        writer.add(u - 1, network.to[e] - applicants - 1);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return totalFlow;
+    }
+
+    // Cost of every edge in the network; the scorer runs once per distinct (degree, qualification) pair
+    int[] edgeCosts(FlowNetwork network, int applicants, List<String> degree, List<String> qualification) {
+        Map<String, Integer> degreeIds = new HashMap<>();
+        List<String> degreeNames = new ArrayList<>();
+        int[] degreeClass = new int[applicants];
+        for (int u = 0; u < applicants; u++) {
+            degreeClass[u] = classOf(degree.get(u), degreeIds, degreeNames);
+        }
+        Map<String, Integer> qualificationIds = new HashMap<>();
+        List<String> qualificationNames = new ArrayList<>();
+        int jobs = network.vertices - applicants - 2;
+        int[] qualificationClass = new int[jobs];
+        for (int v = 0; v < jobs; v++) {
+            qualificationClass[v] = classOf(qualification.get(v), qualificationIds, qualificationNames);
+        }
+
+        int[][] pairCost = new int[degreeNames.size()][qualificationNames.size()];
+        for (int[] row : pairCost) {
+            Arrays.fill(row, -1);
+        }
+        int highestPriority = jobPriority == null ? 0 : Arrays.stream(jobPriority).max().orElse(0);
+
+        int[] cost = new int[network.edges];
+        for (int u = 1; u <= applicants; u++) {
+            for (int e = network.head[u]; e != -1; e = network.next[e]) {
+                int job = network.to[e] - applicants - 1;
+                if (!FlowNetwork.isForward(e) || job < 0) {
+                    continue;
+                }
+                int d = degreeClass[u - 1];
+                int q = qualificationClass[job];
+                if (pairCost[d][q] < 0) {
+                    pairCost[d][q] = scorer.cost(degreeNames.get(d), qualificationNames.get(q));
+                    if (pairCost[d][q] < 0) {
+                        throw new IllegalArgumentException("Negative cost for " + degreeNames.get(d) + " -> " + qualificationNames.get(q));
+                    }
+                }
+                cost[e] = pairCost[d][q] + (jobPriority == null ? 0 : highestPriority - jobPriority[job]);
+                cost[e ^ 1] = -cost[e];
+            }
+        }
+        return cost;
+    }
+
+    private static int classOf(String value, Map<String, Integer> ids, List<String> names) {
+        Integer id = ids.get(value);
+        if (id == null) {
+            id = names.size();
+            ids.put(value, id);
+            names.add(value);
+        }
+        return id;
+    }
+
+    public void setOutput(MatchWriter.Settings output) {
+        this.output = output;
+    }
+
+    public static void main(String[] args) {
+        String[] paths = FileSelectionDialog.openFileAndDirectory();
+        MatchWriter.Settings output = MatchWriter.Settings.parse(args);
+        System.out.println(paths[1]);
+        String outputpath = paths[1];
+        JobDataset data;
+        try {
+            data = JobDataset.read(paths[0]);
+        } catch (IOException | CsvException e) {
+            e.printStackTrace();
+            return;
+        }
+
+        List<String> nameColumn = data.names();
+        List<String> degree = data.degrees();
+        List<String> jobIdColumn = data.jobIds();
+        List<String> qualification = data.qualifications();
+
+        System.out.println(nameColumn.size());
+        System.out.println(qualification.size());
+
+        Eligibility eligibility = EligibilityIndex.build(data);
+        MinCostJobMatching minCost = new MinCostJobMatching();
+        minCost.setOutput(output);
+        minCost.setJobPriority(data.priorities());
+
+        long startTime = System.nanoTime();
+        int maxMatching = minCost.maxJobMatching(eligibility, nameColumn, jobIdColumn, degree, qualification, outputpath);
+        long endTime = System.nanoTime();
+
+        System.out.println("Maximum Job Matching is " + maxMatching + " with total cost " + minCost.getTotalCost());
+        System.out.println("Min-Cost Flow Runtime: " + (endTime - startTime) + " nanoseconds");
+    }
+}
@@ -0,0 +1,89 @@
+package CS5800_Project;
+
+import java.util.Arrays;
+
+/**
+ * Minimum s-t cut read off a solved network, without another solve.
+ *
+ * After a maximum flow, the vertices still reachable from the source through
+ * edges with residual capacity form the source side S of a minimum cut. The
+ * cut edges are the forward edges from S to the rest, all saturated, and
+ * their original capacities add up to the max-flow value. One BFS over the
+ * residual graph plus one pass over the edges, O(V + E).
+ */
+public class MinCut {
+    public final boolean[] sourceSide; // true for the vertices in S
+    public final int[] cutEdges;       // forward edge indices from S to the sink side
+    public final long capacity;        // sum of the original capacities of the cut edges
+
+    private MinCut(boolean[] sourceSide, int[] cutEdges, long capacity) {
+        this.sourceSide = sourceSide;
+        this.cutEdges = cutEdges;
+        this.capacity = capacity;
+    }
+
+    // Cut of a network whose flow is maximum, as left in network.cap by any MaxFlowSolver
+    public static MinCut of(FlowNetwork network, int source) {
+        boolean[] reached = reachable(network.vertices, source, network.head, network.next, network.to, e -> network.cap[e] > 0);
+        int[] cut = new int[16];
+        int count = 0;
+        long capacity = 0;
+        for (int e = 0; e < network.edges; e += 2) {
+            if (reached[network.from(e)] && !reached[network.to[e]]) {
+                cut = count == cut.length ? Arrays.copyOf(cut, 2 * count) : cut;
+                cut[count++] = e;
+                capacity += network.cap[e] + network.cap[e ^ 1]; // residual + flow = original capacity
+            }
+        }
+        return new MinCut(reached, Arrays.copyOf(cut, count), capacity);
+    }
+
+    // Same for the long-capacity networks
+    public static MinCut of(LongFlowNetwork network, int source) {
+        boolean[] reached = reachable(network.vertices, source, network.head, network.next, network.to, e -> network.cap[e] > 0);
+        int[] cut = new int[16];
+        int count = 0;
+        long capacity = 0;
+        for (int e = 0; e < network.edges; e += 2) {
+            if (reached[network.from(e)] && !reached[network.to[e]]) {
+                cut = count == cut.length ? Arrays.copyOf(cut, 2 * count) : cut;
+                cut[count++] = e;
+                capacity += network.cap[e] + network.cap[e ^ 1];
+            }
+        }
+        return new MinCut(reached, Arrays.copyOf(cut, count), capacity);
+    }
+
+    private interface Residual {
+        boolean open(int e);
+    }
+
+    private static boolean[] reachable(int vertices, int source, int[] head, int[] next, int[] to, Residual residual) {
+        boolean[] reached = new boolean[vertices];
+        int[] queue = new int[vertices];
+        int first = 0, last = 0;
+        queue[last++] = source;
+        reached[source] = true;
+        while (first < last) {
+            int u = queue[first++];
+            for (int e = head[u]; e != -1; e = next[e]) {
+                int v = to[e];
+                if (!reached[v] && residual.open(e)) {
+                    reached[v] = true;
+                    queue[last++] = v;
+                }
+            }
+        }
+        return reached;
+    }
+
+    public int sourceSideSize() {
+        int size = 0;
+        for (boolean s : sourceSide) {
+            if (s) {
+                size++;
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,294 @@
+package CS5800_Project;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Multi-threaded Dinic on a FlowNetwork.
+ *
+ * Each phase builds the level graph with a level-synchronous BFS whose
+ * frontier is split across a ForkJoinPool; vertices are claimed with a CAS on
+ * their level. The blocking flow is then searched by several workers at
+ * once: they take source edges from a shared counter and run their own
+ * current-arc DFS. A path is committed by CAS-decrementing the residual
+ * capacity of each edge on it, and rolled back if another worker got to one
+ * of those edges first.
+ *
+ * Within a phase, reverse edges point to a lower level and are never used,
+ * so the workers share which edges are saturated and which vertices are
+ * dead. This pruning is conservative: a rolled-back reservation briefly
+ * shows a lower capacity, so another worker may skip an edge that still has
+ * capacity (and mark a vertex dead because of it), and that edge may go
+ * unused for the rest of the phase. The next phase's BFS sees it again, so
+ * the max-flow value is the same as the sequential solver's. Workers can
+ * also keep rolling back each other's paths, so a phase that ends with no
+ * flow while the sink is still reachable is rerun by a single worker. A
+ * single worker has no rollbacks and finds a full blocking flow, so every
+ * phase makes progress.
+ *
+ * With stats enabled, the BFS calls, phases and augmenting paths are
+ * counted. The per-vertex and per-edge BFS counters are not collected.
+ */
+class ParallelDinic implements MaxFlowSolver {
+    private static final VarHandle INTS = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final int SPLIT = 512; // frontier vertices per BFS task
+
+    private final int threads;
+
+    private FlowNetwork network;
+    private int source, sink;
+    private int[] level;
+    private int[] dead;        // 1 once a vertex cannot reach the sink in the current phase
+    private int[] sourceEdges;
+    private AtomicInteger nextSourceEdge;
+    private AtomicLong totalFlow;
+    private int flowLimit = Integer.MAX_VALUE; // stop once the flow reaches this, see MatchingBound
+    private final SolverStats stats = new SolverStats();
+
+    ParallelDinic(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    @Override
+    public int maxFlow(FlowNetwork network, int source, int sink) {
+        this.network = network;
+        this.source = source;
+        this.sink = sink;
+        level = new int[network.vertices];
+        dead = new int[network.vertices];
+        totalFlow = new AtomicLong();
+
+        int count = 0;
+        sourceEdges = new int[network.vertices];
+        for (int e = network.head[source]; e != -1; e = network.next[e]) {
+            if (FlowNetwork.isForward(e)) {
+                if (count == sourceEdges.length) {
+                    sourceEdges = Arrays.copyOf(sourceEdges, count * 2);
+                }
+                sourceEdges[count++] = e;
+            }
+        }
+        sourceEdges = Arrays.copyOf(sourceEdges, count);
+
+        if (SolverStats.ENABLED) {
+            stats.resetCounters();
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            while (totalFlow.get() < flowLimit && bfs(pool)) {
+                SolverStats.PhaseEvent phase = SolverStats.ENABLED ? stats.beginPhase() : null;
+                long before = totalFlow.get();
+                runWorkers(pool, threads);
+                if (totalFlow.get() == before) {
+                    runWorkers(pool, 1); // no progress: rollbacks or pruning on uncommitted capacities, redo it alone
+                }
+                if (SolverStats.ENABLED) {
+                    stats.endPhase(phase, totalFlow.get() - before, level[sink]);
+                }
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Parallel Dinic phase failed", e);
+        } finally {
+            pool.shutdown();
+        }
+        return (int) totalFlow.get();
+    }
+
+    // One blocking flow search of the current level graph by the given number of workers
+    private void runWorkers(ForkJoinPool pool, int count) throws Exception {
+        Arrays.fill(dead, 0);
+        nextSourceEdge = new AtomicInteger();
+        List<Worker> workers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            workers.add(new Worker());
+        }
+        for (var result : pool.invokeAll(workers)) {
+            result.get();
+        }
+        if (SolverStats.ENABLED) {
+            for (Worker worker : workers) {
+                stats.addPaths(worker.paths);
+            }
+        }
+    }
+
+    // Level graph, one frontier at a time; stops after the level that reaches the sink
+    private boolean bfs(ForkJoinPool pool) {
+        if (SolverStats.ENABLED) {
+            stats.bfsCalls++;
+        }
+        Arrays.fill(level, -1);
+        level[source] = 0;
+        int[] frontier = {source};
+
+        for (int depth = 1; frontier.length > 0 && level[sink] < 0; depth++) {
+            frontier = pool.invoke(new Expand(frontier, 0, frontier.length, depth));
+        }
+        return level[sink] >= 0;
+    }
+
+    @Override
+    public SolverStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public void setFlowLimit(int flowLimit) {
+        this.flowLimit = flowLimit;
+    }
+
+    private class Expand extends RecursiveTask<int[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] frontier;
+        private final int from, to, depth;
+
+        Expand(int[] frontier, int from, int to, int depth) {
+            this.frontier = frontier;
+            this.from = from;
+            this.to = to;
+            this.depth = depth;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from > SPLIT) {
+                int mid = (from + to) >>> 1;
+                Expand left = new Expand(frontier, from, mid, depth);
+                left.fork();
+                int[] right = new Expand(frontier, mid, to, depth).compute();
+                int[] found = left.join();
+                int[] merged = Arrays.copyOf(found, found.length + right.length);
+                System.arraycopy(right, 0, merged, found.length, right.length);
+                return merged;
+            }
+
+            int[] found = new int[16];
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                int u = frontier[i];
+                for (int e = network.head[u]; e != -1; e = network.next[e]) {
+                    int v = network.to[e];
+                    if (network.cap[e] > 0 && level[v] < 0 && INTS.compareAndSet(level, v, -1, depth)) {
+                        if (count == found.length) {
+                            found = Arrays.copyOf(found, count * 2);
+                        }
+                        found[count++] = v;
+                    }
+                }
+            }
+            return Arrays.copyOf(found, count);
+        }
+    }
+
+    // Pulls source edges and pushes flow through each until it is saturated or cut off
+    private class Worker implements Callable<Void> {
+        private final int[] it = Arrays.copyOf(network.head, network.vertices);
+        private final int[] stack = new int[network.vertices];
+        private final int[] pathEdge = new int[network.vertices];
+        private final SolverStats paths = new SolverStats(); // this worker's path counters, merged after the phase
+
+        @Override
+        public Void call() {
+            int i;
+            while (totalFlow.get() < flowLimit && (i = nextSourceEdge.getAndIncrement()) < sourceEdges.length) {
+                int first = sourceEdges[i];
+                int start = network.to[first];
+                if (level[start] != 1) {
+                    continue;
+                }
+                while ((int) INTS.getVolatile(network.cap, first) > 0 && totalFlow.get() < flowLimit) {
+                    int length = findPath(start);
+                    if (length < 0) {
+                        break;
+                    }
+                    pathEdge[length] = first; // committed together with the path
+                    int flow = (int) INTS.getVolatile(network.cap, first);
+                    for (int k = 0; k < length; k++) {
+                        flow = Math.min(flow, (int) INTS.getVolatile(network.cap, pathEdge[k]));
+                    }
+                    if (flow > 0 && reserve(length + 1, flow)) {
+                        totalFlow.addAndGet(flow);
+                        if (SolverStats.ENABLED) {
+                            paths.path(length + 1);
+                        }
+                    }
+                }
+            }
+            return null;
+        }
+
+        // Current-arc DFS from start to the sink over live level edges, returns the number of edges or -1
+        private int findPath(int start) {
+            if (start == sink) {
+                return 0;
+            }
+            int depth = 0;
+            stack[0] = start;
+
+            while (true) {
+                int u = stack[depth];
+                if (u == sink) {
+                    return depth;
+                }
+
+                int e = it[u];
+                while (e != -1) {
+                    int v = network.to[e];
+                    if (level[v] == level[u] + 1 && (int) INTS.getVolatile(network.cap, e) > 0 && (int) INTS.getOpaque(dead, v) == 0) {
+                        break;
+                    }
+                    e = network.next[e];
+                }
+                it[u] = e;
+
+                if (e == -1) {
+                    INTS.setOpaque(dead, u, 1);
+                    if (depth == 0) {
+                        return -1;
+                    }
+                    depth--;
+                    int parent = stack[depth];
+                    it[parent] = network.next[it[parent]];
+                    continue;
+                }
+                pathEdge[depth] = e;
+                stack[++depth] = network.to[e];
+            }
+        }
+
+        // Takes flow from every edge on the path, or from none of them
+        private boolean reserve(int edges, int flow) {
+            for (int k = 0; k < edges; k++) {
+                int e = pathEdge[k];
+                int c = (int) INTS.getVolatile(network.cap, e);
+                while (true) {
+                    if (c < flow) {
+                        for (int r = 0; r < k; r++) {
+                            INTS.getAndAdd(network.cap, pathEdge[r], flow);
+                        }
+                        return false;
+                    }
+                    int witness = (int) INTS.compareAndExchange(network.cap, e, c, c - flow);
+                    if (witness == c) {
+                        break;
+                    }
+                    c = witness;
+                }
+            }
+            for (int k = 0; k < edges; k++) {
+                INTS.getAndAdd(network.cap, pathEdge[k] ^ 1, flow);
+            }
+            return true;
+        }
+    }
+}
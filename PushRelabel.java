@@ -0,0 +1,174 @@
+package CS5800_Project;
+
+import java.util.Arrays;
+
+/**
+ * FIFO push-relabel max flow on a FlowNetwork.
+ *
+ * Heights are periodically recomputed exactly with a backwards BFS from the
+ * sink (global relabel), and when a height below V empties out every vertex
+ * above it is lifted past V at once (gap heuristic), since none of them can
+ * reach the sink any more. The run finishes with a proper flow, not just a
+ * preflow, so the flow on each edge can be read back with network.flow(e).
+ */
+public class PushRelabel {
+    private final FlowNetwork network;
+    private final int n;
+
+    private final int[] height;
+    private final long[] excess;
+    private final int[] current; // current arc of each vertex
+    private final int[] count;   // number of vertices at each height
+    private final int[] queue;   // FIFO of active vertices
+    private final boolean[] active;
+    private final int[] bfs;     // scratch queue for global relabels
+    private int qHead, qSize;
+    private int relabels;
+
+    private int source, sink;
+
+    public PushRelabel(FlowNetwork network) {
+        this.network = network;
+        this.n = network.vertices;
+        height = new int[n];
+        excess = new long[n];
+        current = new int[n];
+        count = new int[2 * n + 1];
+        queue = new int[n];
+        active = new boolean[n];
+        bfs = new int[n];
+    }
+
+    public int maxFlow(int source, int sink) {
+        this.source = source;
+        this.sink = sink;
+
+        // Saturate every edge out of the source
+        for (int e = network.head[source]; e != -1; e = network.next[e]) {
+            int f = network.cap[e];
+            if (f > 0) {
+                network.cap[e] = 0;
+                network.cap[e ^ 1] += f;
+                excess[network.to[e]] += f;
+                excess[source] -= f;
+                enqueue(network.to[e]);
+            }
+        }
+
+        globalRelabel();
+
+        while (qSize > 0) {
+            int u = queue[qHead];
+            qHead = (qHead + 1) % n;
+            qSize--;
+            active[u] = false;
+            discharge(u);
+
+            if (relabels >= n) {
+                globalRelabel();
+            }
+        }
+
+        return (int) excess[sink];
+    }
+
+    private void enqueue(int v) {
+        if (!active[v] && v != source && v != sink && excess[v] > 0) {
+            active[v] = true;
+            queue[(qHead + qSize) % n] = v;
+            qSize++;
+        }
+    }
+
+    private void discharge(int u) {
+        while (excess[u] > 0) {
+            int e = current[u];
+            if (e == -1) {
+                relabel(u);
+                current[u] = network.head[u];
+                continue;
+            }
+
+            int v = network.to[e];
+            if (network.cap[e] > 0 && height[u] == height[v] + 1) {
+                int d = (int) Math.min(excess[u], network.cap[e]);
+                network.cap[e] -= d;
+                network.cap[e ^ 1] += d;
+                excess[u] -= d;
+                excess[v] += d;
+                enqueue(v);
+            } else {
+                current[u] = network.next[e];
+            }
+        }
+    }
+
+    private void relabel(int u) {
+        relabels++;
+        int minHeight = 2 * n;
+        for (int e = network.head[u]; e != -1; e = network.next[e]) {
+            if (network.cap[e] > 0) {
+                minHeight = Math.min(minHeight, height[network.to[e]]);
+            }
+        }
+
+        int old = height[u];
+        count[old]--;
+        height[u] = Math.min(minHeight + 1, 2 * n);
+        count[height[u]]++;
+
+        if (count[old] == 0 && old < n) {
+            gap(old);
+        }
+    }
+
+    // Nothing above an empty height below n can reach the sink, lift those vertices above n
+    private void gap(int emptyHeight) {
+        for (int v = 0; v < n; v++) {
+            if (height[v] > emptyHeight && height[v] < n) {
+                count[height[v]]--;
+                height[v] = n + 1;
+                count[height[v]]++;
+                current[v] = network.head[v];
+            }
+        }
+    }
+
+    // Exact heights: distance to the sink in the residual graph, or n + distance to the source
+    private void globalRelabel() {
+        relabels = 0;
+        Arrays.fill(height, -1);
+        Arrays.fill(count, 0);
+
+        height[sink] = 0;
+        bfsBackwards(sink);
+        height[source] = n;
+        bfsBackwards(source);
+
+        for (int v = 0; v < n; v++) {
+            if (height[v] < 0) {
+                height[v] = 2 * n; // reaches neither terminal, holds no excess
+            }
+            count[height[v]]++;
+            current[v] = network.head[v];
+        }
+    }
+
+    // Labels the unlabelled vertices that have a residual path to root
+    private void bfsBackwards(int root) {
+        int head = 0, tail = 0;
+        bfs[tail++] = root;
+
+        while (head < tail) {
+            int x = bfs[head++];
+            for (int e = network.head[x]; e != -1; e = network.next[e]) {
+                int y = network.to[e];
+                // the residual edge y -> x is the pair of e
+                if (height[y] < 0 && network.cap[e ^ 1] > 0) {
+                    height[y] = height[x] + 1;
+                    bfs[tail++] = y;
+                }
+            }
+        }
+    }
+}
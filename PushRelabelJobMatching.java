@@ -0,0 +1,85 @@
+package CS5800_Project;
+import java.util.*;
+import java.io.IOException;
+
+import com.opencsv.exceptions.CsvException;
+
+import java.util.List;
+
+// Runs the applicant/job network through PushRelabel instead of an augmenting-path solver
+class PushRelabelJobMatching implements MaxFlowSolver {
+    private MatchWriter.Settings output = MatchWriter.Settings.DEFAULT; // format and echo of the result file
+
+    @Override
+    public int maxFlow(FlowNetwork network, int source, int sink) {
+        return new PushRelabel(network).maxFlow(source, sink);
+    }
+
+    public int maxJobMatching(int[][] jobGraph, List<String> nameColumn, List<String> jobIdColumn, List<String> degree, List<String> qualification, String path) {
+        return maxJobMatching(Eligibility.fromMatrix(jobGraph), nameColumn, jobIdColumn, degree, qualification, path);
+    }
+
+    public int maxJobMatching(Eligibility eligibility, List<String> nameColumn, List<String> jobIdColumn, List<String> degree, List<String> qualification, String path) {
+        int applicants = eligibility.applicants;
+        int jobs = eligibility.jobs;
+
+        int source = 0;
+        int sink = applicants + jobs + 1;
+
+        FlowNetwork network = FlowNetwork.forJobMatching(eligibility);
+        int totalFlow = maxFlow(network, source, sink);
+
+        // Hand the matched jobs to the background writer
+        try (MatchWriter writer = MatchWriter.open(path, "PR_output", output, nameColumn, degree, jobIdColumn, qualification)) {
+            for (int u = 1; u <= applicants; u++) {
+                for (int e = network.head[u]; e != -1; e = network.next[e]) {
+                    if (FlowNetwork.isForward(e) && network.flow(e) > 0) {
+                        writer.add(u - 1, network.to[e] - applicants - 1);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return totalFlow;
+    }
+
+    public void setOutput(MatchWriter.Settings output) {
+        this.output = output;
+    }
+
+    public static void main(String[] args) {
+        String[] paths = FileSelectionDialog.openFileAndDirectory();
+        MatchWriter.Settings output = MatchWriter.Settings.parse(args);
+        System.out.println(paths[1]);
+        String outputpath = paths[1];
+        JobDataset data;
+        try {
+            data = JobDataset.read(paths[0]);
+        } catch (IOException | CsvException e) {
+            e.printStackTrace();
+            return;
+        }
+
+        List<String> nameColumn = data.names();
+        List<String> degree = data.degrees();
+        List<String> jobIdColumn = data.jobIds();
+        List<String> qualification = data.qualifications();
+
+        System.out.println(nameColumn.size());
+        System.out.println(qualification.size());
+
+        Eligibility eligibility = EligibilityIndex.build(data);
+
+        PushRelabelJobMatching pr = new PushRelabelJobMatching();
+        pr.setOutput(output);
+
+        long startTime = System.nanoTime();
+        int maxMatching = pr.maxJobMatching(eligibility, nameColumn, jobIdColumn, degree, qualification, outputpath);
+        long endTime = System.nanoTime();
+
+        System.out.println("Maximum Job Matching is " + maxMatching);
+        System.out.println("Push-Relabel Algorithm Runtime: " + (endTime - startTime) + " nanoseconds");
+    }
+}
@@ -0,0 +1,184 @@
+package CS5800_Project;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Counters for one max-flow run: BFS work, augmenting paths, Dinic phases,
+ * the size of the network built and the time spent in each stage.
+ *
+ * Solvers only touch the counters behind `if (SolverStats.ENABLED)`.
+ * ENABLED is a static final read once from -Djobmatching.stats=true, so
+ * with stats off the JIT folds those branches away and the hot loops are
+ * the same as without instrumentation. A run can be exported as JSON with
+ * toJson and as JFR events (CS5800_Project.SolverRun per run and
+ * CS5800_Project.DinicPhase per Dinic phase) while a recording is active.
+ *
+ * An instance belongs to one solver and is not thread-safe.
+ */
+class SolverStats {
+    static final boolean ENABLED = Boolean.getBoolean("jobmatching.stats");
+
+    static {
+        if (ENABLED) {
+            // Registers the JFR event types up front instead of inside the first timed phase
+            new RunEvent();
+            new PhaseEvent();
+        }
+    }
+
+    // Search work
+    long bfsCalls;
+    long verticesDequeued;
+    long edgesScanned;
+
+    // Augmenting paths, length in edges
+    long augmentingPaths;
+    long pathLengthTotal;
+    int longestPath;
+
+    // Dinic phases
+    long phases;
+    long blockingFlowTotal;
+    long largestBlockingFlow;
+
+    // Network built for the run
+    int applicants;
+    int jobs;
+    long eligibilityEdges;
+    int networkVertices;
+    int networkEdges;
+
+    // Stage timings
+    long parseNanos;
+    long eligibilityNanos;
+    long solveNanos;
+    long writeNanos;
+
+    void path(int length) {
+        augmentingPaths++;
+        pathLengthTotal += length;
+        longestPath = Math.max(longestPath, length);
+    }
+
+    // Adds the path counters collected by another thread of the same run, see ParallelDinic
+    void addPaths(SolverStats other) {
+        augmentingPaths += other.augmentingPaths;
+        pathLengthTotal += other.pathLengthTotal;
+        longestPath = Math.max(longestPath, other.longestPath);
+    }
+
+    PhaseEvent beginPhase() {
+        PhaseEvent event = new PhaseEvent();
+        event.begin();
+        return event;
+    }
+
+    void endPhase(PhaseEvent event, long blockingFlow, int sinkLevel) {
+        phases++;
+        blockingFlowTotal += blockingFlow;
+        largestBlockingFlow = Math.max(largestBlockingFlow, blockingFlow);
+        event.end();
+        if (event.shouldCommit()) {
+            event.phase = phases;
+            event.blockingFlow = blockingFlow;
+            event.sinkLevel = sinkLevel;
+            event.commit();
+        }
+    }
+
+    void network(Eligibility eligibility, FlowNetwork network) {
+        applicants = eligibility.applicants;
+        jobs = eligibility.jobs;
+        eligibilityEdges = eligibility.edges();
+        networkVertices = network.vertices;
+        networkEdges = network.edges / 2;
+    }
+
+    // Clears the solver counters, keeps the network size and stage timings
+    void resetCounters() {
+        bfsCalls = verticesDequeued = edgesScanned = 0;
+        augmentingPaths = pathLengthTotal = 0;
+        longestPath = 0;
+        phases = blockingFlowTotal = largestBlockingFlow = 0;
+    }
+
+    void commit(String algorithm, int matching) {
+        RunEvent event = new RunEvent();
+        if (event.shouldCommit()) {
+            event.algorithm = algorithm;
+            event.matching = matching;
+            event.bfsCalls = bfsCalls;
+            event.verticesDequeued = verticesDequeued;
+            event.edgesScanned = edgesScanned;
+            event.augmentingPaths = augmentingPaths;
+            event.longestPath = longestPath;
+            event.phases = phases;
+            event.networkEdges = networkEdges;
+            event.parseNanos = parseNanos;
+            event.eligibilityNanos = eligibilityNanos;
+            event.solveNanos = solveNanos;
+            event.writeNanos = writeNanos;
+            event.commit();
+        }
+    }
+
+    String toJson(String algorithm, int matching) {
+        return "{\n"
+                + "  \"algorithm\": \"" + algorithm + "\",\n"
+                + "  \"matching\": " + matching + ",\n"
+                + "  \"enabled\": " + ENABLED + ",\n"
+                + "  \"bfsCalls\": " + bfsCalls + ",\n"
+                + "  \"verticesDequeued\": " + verticesDequeued + ",\n"
+                + "  \"edgesScanned\": " + edgesScanned + ",\n"
+                + "  \"augmentingPaths\": " + augmentingPaths + ",\n"
+                + "  \"averagePathLength\": " + (augmentingPaths == 0 ? 0 : (double) pathLengthTotal / augmentingPaths) + ",\n"
+                + "  \"longestPath\": " + longestPath + ",\n"
+                + "  \"phases\": " + phases + ",\n"
+                + "  \"blockingFlowTotal\": " + blockingFlowTotal + ",\n"
+                + "  \"largestBlockingFlow\": " + largestBlockingFlow + ",\n"
+                + "  \"applicants\": " + applicants + ",\n"
+                + "  \"jobs\": " + jobs + ",\n"
+                + "  \"eligibilityEdges\": " + eligibilityEdges + ",\n"
+                + "  \"networkVertices\": " + networkVertices + ",\n"
+                + "  \"networkEdges\": " + networkEdges + ",\n"
+                + "  \"parseMillis\": " + parseNanos / 1e6 + ",\n"
+                + "  \"eligibilityMillis\": " + eligibilityNanos / 1e6 + ",\n"
+                + "  \"solveMillis\": " + solveNanos / 1e6 + ",\n"
+                + "  \"writeMillis\": " + writeNanos / 1e6 + "\n"
+                + "}\n";
+    }
+
+    @Name("CS5800_Project.SolverRun")
+    @Label("Solver Run")
+    @Category("Job Matching")
+    @Description("Counters and stage timings of one max-flow run")
+    static class RunEvent extends Event {
+        @Label("Algorithm") String algorithm;
+        @Label("Matching") int matching;
+        @Label("BFS Calls") long bfsCalls;
+        @Label("Vertices Dequeued") long verticesDequeued;
+        @Label("Edges Scanned") long edgesScanned;
+        @Label("Augmenting Paths") long augmentingPaths;
+        @Label("Longest Path") int longestPath;
+        @Label("Dinic Phases") long phases;
+        @Label("Network Edges") int networkEdges;
+        @Label("Parse ns") long parseNanos;
+        @Label("Eligibility ns") long eligibilityNanos;
+        @Label("Solve ns") long solveNanos;
+        @Label("Write ns") long writeNanos;
+    }
+
+    @Name("CS5800_Project.DinicPhase")
+    @Label("Dinic Phase")
+    @Category("Job Matching")
+    @Description("One BFS + blocking flow phase of Dinic's algorithm")
+    static class PhaseEvent extends Event {
+        @Label("Phase") long phase;
+        @Label("Blocking Flow") long blockingFlow;
+        @Label("Sink Level") int sinkLevel;
+    }
+}
@@ -0,0 +1,313 @@
+package CS5800_Project;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Seeded generator for synthetic inputs.
+ *
+ * writeJobDataset streams a Name,Degree,Job Id,Qualifications file like
+ * degrees_dataset.csv, one row at a time, so the row count is only limited
+ * by disk space. Degrees follow a Zipf distribution over DEGREES (skew 0 is
+ * uniform); a share of the Qualifications cells combine several degrees
+ * joined with "/", e.g. "MBA/BBA". writeNetwork streams a random weighted
+ * network in DIMACS max-flow format, which MaxFlowComparison can load.
+ * WIDE capacities are log-uniform up to the maximum capacity, which may
+ * exceed the int range; such networks only load as a LongFlowNetwork.
+ *
+ * The same seed and settings always produce the same file.
+ */
+public class WorkloadGenerator {
+    static final String[] DEGREES = {"M.Com", "B.Com", "M.Tech", "B.Tech", "MBA", "BBA", "MCA", "BCA", "BA", "PhD"};
+    private static final String[] FIRST_NAMES = {"John", "Jane", "Alice", "Bob", "Carol", "David", "Emma", "Frank", "Grace", "Henry",
+            "Isla", "Jack", "Kiran", "Liam", "Maya", "Noah", "Olivia", "Priya", "Ravi", "Sara"};
+    private static final String[] LAST_NAMES = {"Doe", "Smith", "Johnson", "Brown", "Lee", "Garcia", "Miller", "Davis", "Patel", "Wilson",
+            "Taylor", "Anderson", "Thomas", "Moore", "Martin", "Clark", "Lewis", "Walker", "Hall", "Young"};
+
+    public enum CapacityDistribution {
+        UNIT, UNIFORM, HEAVY_TAILED, WIDE
+    }
+
+    private final long seed;
+    private double degreeSkew = 0;
+    private double combinationShare = 0.3; // share of Qualifications cells with more than one degree
+    private int maxCombination = 2;        // most degrees in one Qualifications cell
+    private long maxCapacity = 100;        // largest UNIFORM or WIDE capacity
+
+    public WorkloadGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    // Zipf exponent over DEGREES, 0 picks every degree equally often
+    public void setDegreeSkew(double degreeSkew) {
+        this.degreeSkew = degreeSkew;
+    }
+
+    public void setCombinationShare(double combinationShare) {
+        this.combinationShare = combinationShare;
+    }
+
+    public void setMaxCombination(int maxCombination) {
+        this.maxCombination = Math.max(1, Math.min(maxCombination, DEGREES.length));
+    }
+
+    public void setMaxCapacity(long maxCapacity) {
+        this.maxCapacity = Math.max(1, maxCapacity);
+    }
+
+    public void writeJobDataset(Path file, long rows) throws IOException {
+        Random random = new Random(seed);
+        double[] cdf = zipf(DEGREES.length, degreeSkew);
+        boolean[] picked = new boolean[DEGREES.length];
+        StringBuilder line = new StringBuilder(96);
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("Name,Degree,Job Id,Qualifications");
+            writer.newLine();
+            for (long row = 0; row < rows; row++) {
+                line.setLength(0);
+                line.append(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]).append(' ')
+                        .append(LAST_NAMES[random.nextInt(LAST_NAMES.length)]).append(',');
+                line.append(DEGREES[sample(cdf, random)]).append(',');
+                line.append(100_000_000_000_000L + (random.nextLong() & Long.MAX_VALUE) % 9_900_000_000_000_000L).append(',');
+
+                // Distinct degrees of the cell, written in DEGREES order so equal sets give equal strings
+                int count = maxCombination > 1 && random.nextDouble() < combinationShare ? 2 + random.nextInt(maxCombination - 1) : 1;
+                Arrays.fill(picked, false);
+                for (int k = 0; k < count; ) {
+                    int d = sample(cdf, random);
+                    if (!picked[d]) {
+                        picked[d] = true;
+                        k++;
+                    }
+                }
+                boolean first = true;
+                for (int d = 0; d < DEGREES.length; d++) {
+                    if (picked[d]) {
+                        line.append(first ? "" : "/").append(DEGREES[d]);
+                        first = false;
+                    }
+                }
+
+                writer.append(line);
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Random network with the given number of vertices, each vertex except
+     * the sink getting `density` edges to random other vertices. Vertex 0 is
+     * the source and the last vertex is the sink; the file uses 1-based
+     * DIMACS numbering.
+     */
+    public void writeNetwork(Path file, int vertices, int density, CapacityDistribution capacities) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("c generated by WorkloadGenerator, seed " + seed);
+            writer.newLine();
+            writer.write("p max " + vertices + " " + countEdges(vertices, density, capacities));
+            writer.newLine();
+            writer.write("n 1 s");
+            writer.newLine();
+            writer.write("n " + vertices + " t");
+            writer.newLine();
+            generateEdges(vertices, density, capacities, (u, v, capacity) -> {
+                writer.write("a " + (u + 1) + " " + (v + 1) + " " + capacity);
+                writer.newLine();
+            });
+        }
+    }
+
+    // The network writeNetwork would write, built in memory; every capacity must fit in an int
+    public FlowNetwork network(int vertices, int density, CapacityDistribution capacities) {
+        FlowNetwork network = new FlowNetwork(vertices, edgeHint(vertices, density));
+        try {
+            generateEdges(vertices, density, capacities, (u, v, capacity) -> network.addEdge(u, v, intCapacity(capacity)));
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // addEdge does no I/O
+        }
+        return network;
+    }
+
+    // Same network with long capacities
+    public LongFlowNetwork longNetwork(int vertices, int density, CapacityDistribution capacities) {
+        LongFlowNetwork network = new LongFlowNetwork(vertices, edgeHint(vertices, density));
+        try {
+            generateEdges(vertices, density, capacities, network::addEdge);
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // addEdge does no I/O
+        }
+        return network;
+    }
+
+    // vertices * density, the most forward edges generateEdges adds; the edge arrays hold twice that
+    private static int edgeHint(int vertices, int density) {
+        try {
+            int edges = Math.multiplyExact(vertices, density);
+            if (edges <= Integer.MAX_VALUE / 2) {
+                return edges;
+            }
+        } catch (ArithmeticException e) {
+            // too large, rejected below
+        }
+        throw new IllegalArgumentException(vertices + " vertices with density " + density + " do not fit in an in-memory network");
+    }
+
+    private static int intCapacity(long capacity) {
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Capacity " + capacity + " does not fit in an int, use a LongFlowNetwork");
+        }
+        return (int) capacity;
+    }
+
+    /**
+     * Reads a DIMACS max-flow file. Returns the network, the source and the
+     * sink (0-based) are stored in terminals[0] and terminals[1].
+     */
+    public static FlowNetwork readNetwork(Path file, int[] terminals) throws IOException {
+        FlowNetwork[] network = new FlowNetwork[1];
+        readDimacs(file, terminals, (vertices, arcs) -> network[0] = new FlowNetwork(vertices, arcs), (u, v, capacity) -> {
+            if (capacity > Integer.MAX_VALUE) {
+                throw new IOException("Capacity " + capacity + " in " + file + " does not fit in an int, use readLongNetwork");
+            }
+            network[0].addEdge(u, v, (int) capacity);
+        });
+        return network[0];
+    }
+
+    // Same as readNetwork with long capacities
+    public static LongFlowNetwork readLongNetwork(Path file, int[] terminals) throws IOException {
+        LongFlowNetwork[] network = new LongFlowNetwork[1];
+        readDimacs(file, terminals, (vertices, arcs) -> network[0] = new LongFlowNetwork(vertices, arcs),
+                (u, v, capacity) -> network[0].addEdge(u, v, capacity));
+        return network[0];
+    }
+
+    private interface ProblemConsumer {
+        void accept(int vertices, int arcs);
+    }
+
+    private static void readDimacs(Path file, int[] terminals, ProblemConsumer problem, EdgeConsumer arcs) throws IOException {
+        boolean started = false;
+        try (var lines = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                String[] parts = line.trim().split("\\s+");
+                switch (parts[0]) {
+                    case "p":
+                        problem.accept(Integer.parseInt(parts[2]), Integer.parseInt(parts[3]));
+                        started = true;
+                        break;
+                    case "n":
+                        terminals["s".equals(parts[2]) ? 0 : 1] = Integer.parseInt(parts[1]) - 1;
+                        break;
+                    case "a":
+                        if (!started) {
+                            throw new IOException("Arc before problem line in " + file);
+                        }
+                        arcs.accept(Integer.parseInt(parts[1]) - 1, Integer.parseInt(parts[2]) - 1, Long.parseLong(parts[3]));
+                        break;
+                    default:
+                        break; // comments and blank lines
+                }
+            }
+        }
+        if (!started) {
+            throw new IOException("No problem line in " + file);
+        }
+    }
+
+    private interface EdgeConsumer {
+        void accept(int u, int v, long capacity) throws IOException;
+    }
+
+    private void generateEdges(int vertices, int density, CapacityDistribution capacities, EdgeConsumer consumer) throws IOException {
+        Random random = new Random(seed);
+        for (int u = 0; u < vertices - 1; u++) {
+            for (int k = 0; k < density; k++) {
+                int v = random.nextInt(vertices - 1) + 1;
+                long capacity = capacity(capacities, random);
+                if (v != u) {
+                    consumer.accept(u, v, capacity);
+                }
+            }
+        }
+    }
+
+    // Second pass with the same seed, so the edge count is known before the edges are written
+    private long countEdges(int vertices, int density, CapacityDistribution capacities) throws IOException {
+        long[] count = new long[1];
+        generateEdges(vertices, density, capacities, (u, v, capacity) -> count[0]++);
+        return count[0];
+    }
+
+    private long capacity(CapacityDistribution capacities, Random random) {
+        switch (capacities) {
+            case UNIT:
+                return 1;
+            case UNIFORM:
+                return maxCapacity <= Integer.MAX_VALUE ? 1 + random.nextInt((int) maxCapacity) : 1 + (long) (random.nextDouble() * maxCapacity);
+            case WIDE:
+                // log-uniform over 1 .. maxCapacity: as many edges around 10 as around 10^9
+                return Math.max(1, (long) Math.pow(maxCapacity, random.nextDouble()));
+            default:
+                // Pareto, alpha 1.2: mostly small capacities with a few very large ones
+                return (int) Math.min(1_000_000, Math.pow(1 - random.nextDouble(), -1 / 1.2));
+        }
+    }
+
+    private static double[] zipf(int n, double skew) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1 / Math.pow(i + 1, skew);
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    private static int sample(double[] cdf, Random random) {
+        int i = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(i >= 0 ? i : -i - 1, cdf.length - 1);
+    }
+
+    // jobs <file> <rows> [--seed N] [--skew S] [--combinations P] [--max-combination K]
+    // network <file> <vertices> <density> [--seed N] [--capacities UNIT|UNIFORM|HEAVY_TAILED|WIDE] [--max-capacity C]
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3 || args[0].equals("network") && args.length < 4) {
+            System.out.println("Usage: WorkloadGenerator jobs <file> <rows> [--seed N] [--skew S] [--combinations P] [--max-combination K]");
+            System.out.println("       WorkloadGenerator network <file> <vertices> <density> [--seed N] [--capacities UNIT|UNIFORM|HEAVY_TAILED|WIDE] [--max-capacity C]");
+            return;
+        }
+        WorkloadGenerator generator = new WorkloadGenerator(Long.parseLong(option(args, "--seed", "5800")));
+        generator.setDegreeSkew(Double.parseDouble(option(args, "--skew", "0")));
+        generator.setCombinationShare(Double.parseDouble(option(args, "--combinations", "0.3")));
+        generator.setMaxCombination(Integer.parseInt(option(args, "--max-combination", "2")));
+        generator.setMaxCapacity(Long.parseLong(option(args, "--max-capacity", "100")));
+        Path file = Paths.get(args[1]);
+
+        long startTime = System.nanoTime();
+        if (args[0].equals("network")) {
+            CapacityDistribution capacities = CapacityDistribution.valueOf(option(args, "--capacities", "UNIFORM"));
+            generator.writeNetwork(file, Integer.parseInt(args[2]), Integer.parseInt(args[3]), capacities);
+        } else {
+            generator.writeJobDataset(file, Long.parseLong(args[2]));
+        }
+        long endTime = System.nanoTime();
+        System.out.println("Wrote " + file + " in " + (endTime - startTime) / 1e6 + " ms");
+    }
+
+    private static String option(String[] args, String name, String fallback) {
+        int i = Arrays.asList(args).indexOf(name);
+        return i >= 0 && i + 1 < args.length ? args[i + 1] : fallback;
+    }
+}
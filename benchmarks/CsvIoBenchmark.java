@@ -0,0 +1,94 @@
+package CS5800_Project;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.opencsv.exceptions.CsvException;
+
+/**
+ * JMH benchmarks for the I/O around a job matching run, kept apart from the
+ * solve benchmarks in MaxFlowBenchmark.
+ *
+ * read parses a Name/Degree/Job Id/Qualifications file into a JobDataset,
+ * writeCsv and writeBinary push a solved matching through MatchWriter the
+ * same way the *JobMatching classes do, with echo off. The input file comes
+ * from WorkloadGenerator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class CsvIoBenchmark {
+    @Param({"1000", "10000"})
+    int rows;
+
+    Path directory;
+    Path input;
+    Path output;
+    JobDataset data;
+    int[] matchedJob; // job row matched to each applicant row, -1 if none
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, CsvException {
+        directory = Files.createTempDirectory("csv-io-benchmark");
+        input = directory.resolve("input.csv");
+        output = directory.resolve("output.csv");
+
+        new WorkloadGenerator(5800).writeJobDataset(input, rows);
+
+        data = JobDataset.read(input.toString());
+        Eligibility eligibility = EligibilityIndex.build(data);
+        FlowNetwork network = FlowNetwork.forJobMatching(eligibility);
+        int applicants = eligibility.applicants;
+        new DinicJobMatching(network.vertices).maxFlow(network, 0, network.vertices - 1);
+
+        matchedJob = new int[applicants];
+        for (int u = 1; u <= applicants; u++) {
+            matchedJob[u - 1] = -1;
+            for (int e = network.head[u]; e != -1; e = network.next[e]) {
+                if (FlowNetwork.isForward(e) && network.to[e] > applicants && network.flow(e) > 0) {
+                    matchedJob[u - 1] = network.to[e] - applicants - 1;
+                }
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(input);
+        Files.deleteIfExists(output);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public JobDataset read() throws IOException, CsvException {
+        return JobDataset.read(input.toString());
+    }
+
+    @Benchmark
+    public void writeCsv() throws IOException {
+        write(MatchWriter.Format.CSV);
+    }
+
+    @Benchmark
+    public void writeBinary() throws IOException {
+        write(MatchWriter.Format.BINARY);
+    }
+
+    // Includes waiting for the background writer, so the whole output stage is measured
+    private void write(MatchWriter.Format format) throws IOException {
+        try (MatchWriter writer = new MatchWriter(output, format, 0, data.names(), data.degrees(), data.jobIds(), data.qualifications())) {
+            for (int a = 0; a < matchedJob.length; a++) {
+                if (matchedJob[a] >= 0) {
+                    writer.add(a, matchedJob[a]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package CS5800_Project;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmarks for the max-flow solvers, solve time only.
+ *
+ * Networks come from WorkloadGenerator once per trial, with a fixed seed, so
+ * neither graph building nor CSV I/O is part of the measured time (see
+ * CsvIoBenchmark for the I/O side). Solver instances are kept across
+ * invocations, as a long running caller would keep them.
+ *
+ * The residual capacities are restored at the start of every measured call,
+ * with one System.arraycopy from a prebuilt copy. A Level.Invocation setup
+ * would distort solves that take microseconds. genericReset and
+ * matchingReset measure that copy alone, so subtract it from generic and
+ * matching to get the solve time.
+ *
+ * Needs jmh-core, jmh-generator-annprocess and opencsv on the classpath:
+ *   javac -cp "lib/*" -d out *.java benchmarks/*.java
+ *   java -cp "out:lib/*" CS5800_Project.MaxFlowBenchmark
+ * main runs every benchmark with the GC profiler, gc.alloc.rate.norm is the
+ * number of bytes allocated per op.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class MaxFlowBenchmark {
+    private static final long SEED = 5800;
+
+    // Random network: every vertex gets `density` edges to random other vertices
+    @State(Scope.Thread)
+    public static class GenericNetwork {
+        @Param({"ff", "ek", "dinic", "pr"})
+        String solver;
+
+        @Param({"1000", "10000"})
+        int vertices;
+
+        @Param({"4", "16"})
+        int density;
+
+        @Param({"UNIT", "UNIFORM", "HEAVY_TAILED"})
+        String capacities;
+
+        FlowNetwork network;
+        int[] capacity;
+        MaxFlowSolver instance;
+
+        @Setup(Level.Trial)
+        public void build() {
+            WorkloadGenerator generator = new WorkloadGenerator(SEED);
+            network = generator.network(vertices, density, WorkloadGenerator.CapacityDistribution.valueOf(capacities));
+            capacity = Arrays.copyOf(network.cap, network.edges);
+            instance = JobMatchingCli.solver(solver, network.vertices, 1);
+        }
+
+        void reset() {
+            System.arraycopy(capacity, 0, network.cap, 0, capacity.length);
+        }
+    }
+
+    // Applicant/job network, each applicant eligible for `eligiblePercent` of the jobs
+    @State(Scope.Thread)
+    public static class MatchingNetwork {
+        @Param({"ff", "ek", "dinic", "pr"})
+        String solver;
+
+        @Param({"1000", "5000"})
+        int applicants;
+
+        @Param({"1", "10"})
+        int eligiblePercent;
+
+        FlowNetwork network;
+        int[] capacity;
+        MaxFlowSolver instance;
+
+        @Setup(Level.Trial)
+        public void build() {
+            Random random = new Random(SEED);
+            int jobs = applicants;
+            int[][] jobsOf = new int[applicants][];
+            for (int a = 0; a < applicants; a++) {
+                jobsOf[a] = random.ints(0, jobs)
+                        .limit(Math.max(1, (long) jobs * eligiblePercent / 100))
+                        .distinct()
+                        .sorted()
+                        .toArray();
+            }
+            network = FlowNetwork.forJobMatching(new Eligibility(applicants, jobs, jobsOf));
+            capacity = Arrays.copyOf(network.cap, network.edges);
+            instance = JobMatchingCli.solver(solver, network.vertices, 1);
+        }
+
+        void reset() {
+            System.arraycopy(capacity, 0, network.cap, 0, capacity.length);
+        }
+    }
+
+    @Benchmark
+    public int generic(GenericNetwork state) {
+        state.reset();
+        return state.instance.maxFlow(state.network, 0, state.vertices - 1);
+    }
+
+    // Copy cost included in generic
+    @Benchmark
+    public int[] genericReset(GenericNetwork state) {
+        state.reset();
+        return state.network.cap;
+    }
+
+    @Benchmark
+    public int matching(MatchingNetwork state) {
+        state.reset();
+        return state.instance.maxFlow(state.network, 0, state.network.vertices - 1);
+    }
+
+    // Copy cost included in matching
+    @Benchmark
+    public int[] matchingReset(MatchingNetwork state) {
+        state.reset();
+        return state.network.cap;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include("CS5800_Project\\..*Benchmark")
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}